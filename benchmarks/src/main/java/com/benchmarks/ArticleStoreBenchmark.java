@@ -0,0 +1,97 @@
+package com.benchmarks;
+
+import com.domain.logic.with.streams.Parallelism;
+import com.multiway.branching.Article;
+import com.multiway.branching.ArticleStore;
+import com.multiway.branching.Part;
+import com.multiway.branching.TimeLimitWarranty;
+import com.multiway.branching.Warranty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fleet of articles sold over four years, half of them with a sensor which failed some time after installation
+ * The objects count the articles with a claimable express and extended warranty by asking every Article,
+ * the stores select them from their columns, on the heap and outside it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ArticleStoreBenchmark {
+    private static final LocalDate FIRST_SALE = LocalDate.of(2020, 1, 1);
+    private static final int SALES_DAYS = 1460;
+
+    @Param({"1000000"})
+    public int fleetSize;
+
+    private List<Article> articles;
+    private ArticleStore onHeap;
+    private ArticleStore offHeap;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.articles = new ArrayList<>(this.fleetSize);
+        for (int i = 0; i < this.fleetSize; i++) {
+            LocalDate sold = FIRST_SALE.plusDays(random.nextInt(SALES_DAYS));
+            Article article = new Article(
+                    new TimeLimitWarranty(sold, Duration.ofDays(30)),
+                    new TimeLimitWarranty(sold, Duration.ofDays(365)));
+            if (random.nextBoolean()) {
+                article = article
+                        .install(new Part(sold), Warranty.lifetime(sold))
+                        .sensorNotOperational(sold.plusDays(random.nextInt(SALES_DAYS)));
+            }
+            this.articles.add(article);
+        }
+        this.onHeap = ArticleStore.onHeap(this.articles).in(Parallelism.atLeast(1024));
+        this.offHeap = ArticleStore.offHeap(this.articles).in(Parallelism.atLeast(1024));
+        this.today = FIRST_SALE.plusDays(SALES_DAYS);
+    }
+
+    @Benchmark
+    public int objects() {
+        int claimable = 0;
+        for (Article article : this.articles) {
+            if (article.getExpressWarranty().on(this.today) != Warranty.VOID) {
+                claimable++;
+            }
+            if (article.getExtendedWarranty().filter(this.today).isPresent()) {
+                claimable++;
+            }
+        }
+        return claimable;
+    }
+
+    @Benchmark
+    public int onHeap() {
+        return this.onHeap.expressOn(this.today).cardinality()
+                + this.onHeap.extendedOn(this.today, this.today).cardinality();
+    }
+
+    @Benchmark
+    public int offHeap() {
+        return this.offHeap.expressOn(this.today).cardinality()
+                + this.offHeap.extendedOn(this.today, this.today).cardinality();
+    }
+}
@@ -0,0 +1,77 @@
+package com.benchmarks;
+
+import com.composite.AsyncPainter;
+import com.composite.AsyncQuoting;
+import com.composite.CompositePainter;
+import com.composite.ConstantVelocityScheduler;
+import com.composite.Quote;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A quote of a crew whose painters each wait for a remote estimator
+ * The composite asks its painters one after another, the asynchronous crew asks them all at once
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AsyncCrewBenchmark {
+
+    @Param({"10", "50"})
+    public int crewSize;
+
+    @Param({"1"})
+    public int latencyMillis;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    private Painter composite;
+    private AsyncQuoting quoting;
+    private AsyncPainter asyncCrew;
+
+    @Setup
+    public void setUp() {
+        List<Painter> crew = Crews.mixed(this.crewSize).stream()
+                .map(painter -> SlowPainter.of(painter, Duration.ofMillis(this.latencyMillis)))
+                .collect(Collectors.toList());
+        this.composite = CompositePainter.of(crew, new ConstantVelocityScheduler()).asOptional().get();
+        this.quoting = AsyncQuoting.bounded(this.crewSize, Duration.ofSeconds(1));
+        this.asyncCrew = this.quoting.crew(crew, new ConstantVelocityScheduler(Parallelism.atLeast(1)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.quoting.close();
+    }
+
+    @Benchmark
+    public Quote composite() {
+        return this.composite.quote(this.sqMeters);
+    }
+
+    @Benchmark
+    public Quote asyncCrew() {
+        return this.asyncCrew.quote(this.sqMeters).join();
+    }
+}
@@ -0,0 +1,84 @@
+package com.benchmarks;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.PartitioningRulesBuilder;
+import com.multiway.branching.pipeline.ClaimPipeline;
+import com.multiway.branching.pipeline.PipelineReport;
+import com.multiway.branching.states.DeviceStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A backlog of claims, each action burning a little CPU
+ * One by one builds the rules for every claim and applies its action inline, as Demo.claimWarranty does
+ * The pipeline builds the rules once and applies actions on one thread per core
+ * Every run of the pipeline starts and joins its threads, which is included in the time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimPipelineBenchmark {
+
+    @Param({"100000"})
+    public int claims;
+
+    @Param({"0", "1000"})
+    public int actionTokens;
+
+    private DeviceStatus[] statuses;
+    private ClaimPipeline<DeviceStatus> pipeline;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.statuses = new DeviceStatus[this.claims];
+        for (int i = 0; i < this.claims; i++) {
+            DeviceStatus status = random.nextBoolean() ? DeviceStatus.allFine() : DeviceStatus.notOperational();
+            status = random.nextBoolean() ? status.andVisiblyDamaged() : status;
+            this.statuses[i] = random.nextBoolean() ? status.andSensorFailed(LocalDate.of(2020, 3, 1)) : status;
+        }
+        this.pipeline = ClaimPipeline.of(this.rule(s -> Blackhole.consumeCPU(this.actionTokens)));
+    }
+
+    private ClaimingRule rule(Consumer<DeviceStatus> claim) {
+        return new PartitioningRulesBuilder()
+                .onMoneyBack(claim)
+                .onClaimExpress(claim)
+                .onClaimExtend(claim::accept)
+                .build();
+    }
+
+    @Benchmark
+    public void oneByOne() {
+        for (DeviceStatus status : this.statuses) {
+            this.rule(s -> Blackhole.consumeCPU(this.actionTokens))
+                    .applicableTo(status)
+                    .ifPresent(Action::apply);
+        }
+    }
+
+    @Benchmark
+    public PipelineReport pipeline() {
+        return this.pipeline.process(Arrays.asList(this.statuses));
+    }
+}
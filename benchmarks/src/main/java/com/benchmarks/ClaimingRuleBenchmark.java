@@ -0,0 +1,144 @@
+package com.benchmarks;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.ExhaustiveRulesBuilder;
+import com.multiway.branching.builders.PartitioningRulesBuilder;
+import com.multiway.branching.rules.SharedRule;
+import com.multiway.branching.rules.State;
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.OperationalStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claiming rules evaluated against device statuses
+ * The custom chain cycles through all eight operational states, so its length sets how far a status travels
+ * Compiled rules answer from a decision table, whatever the length of the chain they were compiled from
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaimingRuleBenchmark {
+
+    @Param({"1", "8", "64", "512"})
+    public int chainLength;
+
+    @Param({"allFine", "notOperationalDamaged", "notOperationalSensorFailed"})
+    public String status;
+
+    private DeviceStatus deviceStatus;
+    private ClaimingRule exhaustive;
+    private ClaimingRule partitioning;
+    private ClaimingRule chain;
+    private ClaimingRule compiledExhaustive;
+    private ClaimingRule compiledPartitioning;
+    private ClaimingRule compiledChain;
+    private SharedRule<Blackhole> sharedExhaustive;
+
+    @Setup
+    public void setUp() {
+        this.deviceStatus = this.createStatus();
+        this.exhaustive = new ExhaustiveRulesBuilder().build();
+        this.partitioning = new PartitioningRulesBuilder().build();
+        this.chain = this.createChain(this.chainLength);
+        this.compiledExhaustive = this.exhaustive.compile();
+        this.compiledPartitioning = this.partitioning.compile();
+        this.compiledChain = this.chain.compile();
+        this.sharedExhaustive = SharedRule.of(ExhaustiveRulesBuilder::new,
+                Blackhole::consume, Blackhole::consume, Blackhole::consume);
+    }
+
+    private DeviceStatus createStatus() {
+        switch (this.status) {
+            case "notOperationalDamaged":
+                return DeviceStatus.notOperational().andVisiblyDamaged();
+            case "notOperationalSensorFailed":
+                return DeviceStatus.notOperational().andSensorFailed(LocalDate.of(2020, 3, 1));
+            default:
+                return DeviceStatus.allFine();
+        }
+    }
+
+    private ClaimingRule createChain(int length) {
+        ClaimingRule chain = this.link(length - 1);
+        for (int i = length - 2; i >= 0; i--) {
+            chain = this.link(i).orElse(chain);
+        }
+        return chain;
+    }
+
+    private ClaimingRule link(int index) {
+        return State.matching(new OperationalStatus(index % 8)).applies(s -> { });
+    }
+
+    @Benchmark
+    public Optional<Action> exhaustiveApplicableTo() {
+        return this.exhaustive.applicableTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public void exhaustiveBuildAndApply(Blackhole blackhole) {
+        new ExhaustiveRulesBuilder()
+                .onMoneyBack(blackhole::consume)
+                .onClaimExpress(blackhole::consume)
+                .onClaimExtend(blackhole::consume)
+                .build()
+                .applicableTo(this.deviceStatus)
+                .ifPresent(Action::apply);
+    }
+
+    /**
+     * Same claim as exhaustiveBuildAndApply, with the actions taking the blackhole as their context
+     */
+    @Benchmark
+    public boolean sharedExhaustiveApplyTo(Blackhole blackhole) {
+        return this.sharedExhaustive.applyTo(blackhole, this.deviceStatus);
+    }
+
+    @Benchmark
+    public Optional<Action> partitioningApplicableTo() {
+        return this.partitioning.applicableTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public Optional<Action> chainApplicableTo() {
+        return this.chain.applicableTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public Optional<Action> compiledExhaustiveApplicableTo() {
+        return this.compiledExhaustive.applicableTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public boolean compiledExhaustiveApplyTo() {
+        return this.compiledExhaustive.applyTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public boolean compiledPartitioningApplyTo() {
+        return this.compiledPartitioning.applyTo(this.deviceStatus);
+    }
+
+    @Benchmark
+    public boolean compiledChainApplyTo() {
+        return this.compiledChain.applyTo(this.deviceStatus);
+    }
+}
@@ -0,0 +1,110 @@
+package com.benchmarks;
+
+import com.refactoring.ControlDigit;
+import com.refactoring.ControlDigitAlgorithm;
+import com.refactoring.DocumentNumber;
+import com.refactoring.PonderingModuleAlgorithm;
+import com.refactoring.StraightNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Control digits of document numbers of a given width
+ * Numbers whose weighted sum is a multiple of the divisor are skipped, the algorithms reject them
+ * Algorithms named after streams are the stream versions the tabulated algorithms replaced
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControlDigitBenchmark {
+    private static final int NUMBERS = 1024;
+
+    @Param({"1", "3", "6", "9"})
+    public int width;
+
+    @Param({"accounting", "sales", "accountingStreams", "salesStreams"})
+    public String algorithmName;
+
+    private ControlDigitAlgorithm algorithm;
+    private int[] numbers;
+    private StraightNumber[] straightNumbers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        this.algorithm = this.createAlgorithm();
+        this.numbers = new int[NUMBERS];
+        this.straightNumbers = new StraightNumber[NUMBERS];
+
+        Random random = new Random(42);
+        int low = this.width == 1 ? 1 : (int) Math.pow(10, this.width - 1);
+        int high = (int) Math.pow(10, this.width);
+        for (int i = 0; i < NUMBERS; ) {
+            int candidate = low + random.nextInt(high - low);
+            if (this.isAccepted(candidate)) {
+                this.numbers[i] = candidate;
+                this.straightNumbers[i] = new StraightNumber(candidate);
+                i++;
+            }
+        }
+    }
+
+    private ControlDigitAlgorithm createAlgorithm() {
+        switch (this.algorithmName) {
+            case "sales":
+                return ControlDigit.salesAlgorithm();
+            case "accountingStreams":
+                return PonderingModuleAlgorithm.multipleDigitsModule(
+                        StraightNumber::getDigitsFromLeastSignificant, 11, 0, new int[]{3, 1});
+            case "salesStreams":
+                return PonderingModuleAlgorithm.singleDigitsModule(
+                        StraightNumber::getDigitsFromLeastSignificant, 7, 7, new int[]{3, 1});
+            default:
+                return ControlDigit.accountingAlgorithm();
+        }
+    }
+
+    private boolean isAccepted(int number) {
+        try {
+            this.algorithm.getControlDigit(new StraightNumber(number));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private int nextIndex() {
+        this.next = (this.next + 1) & (NUMBERS - 1);
+        return this.next;
+    }
+
+    @Benchmark
+    public int getControlDigit() {
+        return this.algorithm.getControlDigit(this.straightNumbers[this.nextIndex()]);
+    }
+
+    @Benchmark
+    public int getControlDigitOfInt() {
+        return this.algorithm.getControlDigit(this.numbers[this.nextIndex()]);
+    }
+
+    @Benchmark
+    public String formatDocumentNumber() {
+        return new DocumentNumber(this.numbers[this.nextIndex()], this.algorithm).toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.benchmarks;
+
+import com.composite.CompositePainter;
+import com.composite.CompressionPainter;
+import com.composite.EstimateCaching;
+import com.composite.MoneyRate;
+import com.composite.PaintingScheduler;
+import com.composite.ProportionalPainter;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic crews of painters shared by the benchmarks
+ * Every fourth painter works with a compressor, the others with a roller
+ */
+public class Crews {
+    private static final long SEED = 42;
+
+    public static List<Painter> mixed(int size) {
+        Random random = new Random(SEED);
+        List<Painter> painters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            painters.add(i % 4 == 3 ? compression(random, i) : proportional(random, i));
+        }
+        return painters;
+    }
+
+    public static List<Painter> proportional(int size) {
+        Random random = new Random(SEED);
+        List<Painter> painters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            painters.add(proportional(random, i));
+        }
+        return painters;
+    }
+
+    /**
+     * A tree of composite painters, each level holding fanOut leaf painters and one nested composite
+     * Depth 1 is a plain composite of leaf painters
+     */
+    public static Painter nested(int depth, int fanOut, Supplier<PaintingScheduler> scheduler) {
+        return nested(depth, fanOut, scheduler, EstimateCaching.none());
+    }
+
+    /**
+     * Every composite of the tree caches its estimates as given
+     */
+    public static Painter nested(int depth, int fanOut, Supplier<PaintingScheduler> scheduler, EstimateCaching caching) {
+        List<Painter> painters = mixed(fanOut);
+        if (depth > 1) {
+            painters.add(nested(depth - 1, fanOut, scheduler, caching));
+        }
+        return CompositePainter.of(painters, scheduler.get(), Parallelism.sequential(), caching).asOptional().get();
+    }
+
+    private static Painter proportional(Random random, int index) {
+        return new ProportionalPainter(
+                "Roller " + index, 1 + random.nextDouble() * 4, perHour(15 + random.nextInt(60)));
+    }
+
+    private static Painter compression(Random random, int index) {
+        return new CompressionPainter(
+                "Compressor " + index,
+                Duration.ofMinutes(5 + random.nextInt(15)), 10 + random.nextInt(15),
+                Duration.ofMinutes(15 + random.nextInt(20)), 6 + random.nextDouble() * 6,
+                perHour(50 + random.nextInt(50)));
+    }
+
+    private static MoneyRate perHour(double amount) {
+        return MoneyRate.hourly(new Money(new BigDecimal(amount)));
+    }
+}
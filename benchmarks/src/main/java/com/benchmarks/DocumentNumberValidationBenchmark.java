@@ -0,0 +1,79 @@
+package com.benchmarks;
+
+import com.refactoring.ControlDigit;
+import com.refactoring.ControlDigitAlgorithm;
+import com.refactoring.DocumentNumber;
+import com.refactoring.DocumentNumberValidator;
+import com.refactoring.ValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a whole file of document numbers, one in a hundred of them carries a wrong control digit
+ * Divide the file size by the time per operation to get the throughput in bytes per second
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentNumberValidationBenchmark {
+
+    @Param({"1000000"})
+    public int records;
+
+    private Path file;
+    private DocumentNumberValidator validator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ControlDigitAlgorithm algorithm = ControlDigit.accountingAlgorithm();
+        this.validator = new DocumentNumberValidator(algorithm);
+        this.file = Files.createTempFile("document-numbers", ".txt");
+
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(this.file, StandardCharsets.US_ASCII)) {
+            for (int written = 0; written < this.records; ) {
+                int number = 1 + random.nextInt(999_999_999);
+                try {
+                    String record = new DocumentNumber(number, algorithm).toString();
+                    writer.write(written % 100 == 99 ? number + "-" + (algorithm.getControlDigit(number) + 1) : record);
+                    writer.newLine();
+                    written++;
+                } catch (IllegalArgumentException e) {
+                    // numbers without a control digit are left out
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public ValidationReport validate() throws IOException {
+        return this.validator.validate(this.file);
+    }
+}
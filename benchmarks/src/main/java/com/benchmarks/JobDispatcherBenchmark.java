@@ -0,0 +1,77 @@
+package com.benchmarks;
+
+import com.composite.DispatchObjective;
+import com.composite.DispatchPlan;
+import com.composite.Job;
+import com.composite.JobDispatcher;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A day of jobs dispatched to a shared pool of painters, most of the jobs are due within two days
+ * Searching dispatches the jobs in several orders and keeps the best plan
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobDispatcherBenchmark {
+
+    @Param({"10000"})
+    public int jobCount;
+
+    @Param({"1000"})
+    public int poolSize;
+
+    @Param({"makespan", "cost"})
+    public String objective;
+
+    private List<Painter> pool;
+    private List<Job> jobs;
+    private JobDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        this.pool = Crews.mixed(this.poolSize);
+        this.jobs = new ArrayList<>(this.jobCount);
+        Random random = new Random(42);
+        for (int index = 0; index < this.jobCount; index++) {
+            double sqMeters = 10 + random.nextDouble() * 300;
+            this.jobs.add(random.nextInt(4) == 0
+                    ? Job.of(sqMeters)
+                    : Job.of(sqMeters, Duration.ofHours(4 + random.nextInt(44))));
+        }
+        this.dispatcher = JobDispatcher.of("makespan".equals(this.objective)
+                ? DispatchObjective.makespan()
+                : DispatchObjective.cost());
+    }
+
+    @Benchmark
+    public DispatchPlan dispatch() {
+        return this.dispatcher.dispatch(this.pool, this.jobs);
+    }
+
+    @Benchmark
+    public DispatchPlan search() {
+        return this.dispatcher.searching(Parallelism.atLeast(1)).dispatch(this.pool, this.jobs);
+    }
+}
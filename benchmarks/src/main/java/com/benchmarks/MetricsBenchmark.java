@@ -0,0 +1,84 @@
+package com.benchmarks;
+
+import com.domain.logic.with.streams.Painter;
+import com.metrics.MetricsRegistry;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.ExhaustiveRulesBuilder;
+import com.multiway.branching.states.DeviceStatus;
+import com.refactoring.ControlDigit;
+import com.refactoring.ControlDigitAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Hot paths instrumented through a registry which records nothing, and through one recording in memory
+ * The registry recording nothing hands back the components it was given, so it measures them as they are
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    @Param({"none", "recording"})
+    public String metrics;
+
+    private ControlDigitAlgorithm algorithm;
+    private ClaimingRule rule;
+    private Painter painter;
+    private DeviceStatus status;
+    private int[] numbers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MetricsRegistry registry = "none".equals(this.metrics) ? MetricsRegistry.none() : MetricsRegistry.recording();
+        this.algorithm = registry.algorithm("accounting", ControlDigit.accountingAlgorithm());
+        this.rule = registry.rule("exhaustive", new ExhaustiveRulesBuilder().build()).compile();
+        this.painter = registry.painter("proportional", Crews.mixed(1).get(0));
+        this.status = DeviceStatus.notOperational().andVisiblyDamaged();
+        this.numbers = IntStream.rangeClosed(1, 1_000_000)
+                .filter(number -> this.hasControlDigit(ControlDigit.accountingAlgorithm(), number))
+                .limit(1024)
+                .toArray();
+    }
+
+    private boolean hasControlDigit(ControlDigitAlgorithm algorithm, int number) {
+        try {
+            algorithm.getControlDigit(number);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public int controlDigit() {
+        this.next = (this.next + 1) % this.numbers.length;
+        return this.algorithm.getControlDigit(this.numbers[this.next]);
+    }
+
+    @Benchmark
+    public boolean ruleApplyTo() {
+        return this.rule.applyTo(this.status);
+    }
+
+    @Benchmark
+    public long painterNanosToPaint() {
+        return this.painter.estimateNanosToPaint(120);
+    }
+}
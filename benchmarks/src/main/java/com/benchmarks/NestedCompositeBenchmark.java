@@ -0,0 +1,80 @@
+package com.benchmarks;
+
+import com.composite.CompositePainter;
+import com.composite.ConstantVelocityScheduler;
+import com.composite.EqualTimeScheduler;
+import com.composite.PaintingScheduler;
+import com.composite.Quote;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Composite painters nested into each other, every level repeats the scheduling of the levels below
+ * A quote asks for time and cost of the job together, from a single schedule of every level
+ * A flattened tree of equal time composites searches for the time once, over all the leaf painters
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedCompositeBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int depth;
+
+    @Param({"3"})
+    public int fanOut;
+
+    @Param({"equalTime", "constantVelocity"})
+    public String scheduler;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    @Param({"false", "true"})
+    public boolean flattened;
+
+    private Painter crew;
+
+    @Setup
+    public void setUp() {
+        Painter nested = Crews.nested(this.depth, this.fanOut, this.schedulerFactory());
+        this.crew = this.flattened ? CompositePainter.flatten(nested) : nested;
+    }
+
+    private Supplier<PaintingScheduler> schedulerFactory() {
+        return "equalTime".equals(this.scheduler) ? EqualTimeScheduler::new : ConstantVelocityScheduler::new;
+    }
+
+    @Benchmark
+    public Duration estimateTimeToPaint() {
+        return this.crew.estimateTimeToPaint(this.sqMeters);
+    }
+
+    @Benchmark
+    public Money estimateCompensation() {
+        return this.crew.estimateCompensation(this.sqMeters);
+    }
+
+    @Benchmark
+    public Quote quote() {
+        return this.crew.quote(this.sqMeters);
+    }
+}
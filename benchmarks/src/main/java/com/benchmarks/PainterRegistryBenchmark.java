@@ -0,0 +1,75 @@
+package com.benchmarks;
+
+import com.composite.PainterRegistry;
+import com.composite.RankingScheduler;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the best painter of a large pool, by asking every painter or through the index of a registry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PainterRegistryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int poolSize;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    @Param({"PT20H"})
+    public String within;
+
+    private List<Painter> pool;
+    private PainterRegistry registry;
+    private RankingScheduler cheapest;
+    private Duration time;
+
+    @Setup
+    public void setUp() {
+        this.pool = Crews.mixed(this.poolSize);
+        this.registry = PainterRegistry.of(this.pool);
+        this.cheapest = RankingScheduler.cheapest(1);
+        this.time = Duration.parse(this.within);
+    }
+
+    @Benchmark
+    public List<Painter> scanCheapest() {
+        return this.cheapest.select(this.pool, this.sqMeters);
+    }
+
+    @Benchmark
+    public Optional<Painter> indexCheapest() {
+        return this.registry.cheapest(this.sqMeters);
+    }
+
+    @Benchmark
+    public Optional<Painter> indexCheapestWithin() {
+        return this.registry.cheapestWithin(this.sqMeters, this.time);
+    }
+
+    @Benchmark
+    public Optional<Painter> indexFastest() {
+        return this.registry.fastest(this.sqMeters);
+    }
+}
@@ -0,0 +1,81 @@
+package com.benchmarks;
+
+import com.composite.CompositePainter;
+import com.composite.ConstantVelocityScheduler;
+import com.composite.EqualTimeScheduler;
+import com.composite.PaintingScheduler;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against parallel estimation of one large crew
+ * Parallel crews are split from the first painter on, so the crew size where parallel starts to pay off shows directly
+ * Run on a machine with several cores, the common fork-join pool has as many threads as cores minus one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelCrewBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int crewSize;
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    @Param({"equalTime", "constantVelocity"})
+    public String scheduler;
+
+    @Param({"5000"})
+    public double sqMeters;
+
+    private Painter crew;
+    private Duration time;
+
+    @Setup
+    public void setUp() {
+        Parallelism parallelism = "parallel".equals(this.mode) ? Parallelism.atLeast(1) : Parallelism.sequential();
+        this.crew = CompositePainter.of(Crews.mixed(this.crewSize), this.scheduler(parallelism), parallelism)
+                .asOptional().get();
+        this.time = Duration.ofHours(8);
+    }
+
+    private PaintingScheduler scheduler(Parallelism parallelism) {
+        return "equalTime".equals(this.scheduler)
+                ? new EqualTimeScheduler(parallelism)
+                : new ConstantVelocityScheduler(parallelism);
+    }
+
+    @Benchmark
+    public Money estimateCompensation() {
+        return this.crew.estimateCompensation(this.sqMeters);
+    }
+
+    @Benchmark
+    public Duration estimateTimeToPaint() {
+        return this.crew.estimateTimeToPaint(this.sqMeters);
+    }
+
+    @Benchmark
+    public double estimateSqMeters() {
+        return this.crew.estimateSqMeters(this.time);
+    }
+}
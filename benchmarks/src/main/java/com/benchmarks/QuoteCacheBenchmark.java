@@ -0,0 +1,71 @@
+package com.benchmarks;
+
+import com.composite.ConstantVelocityScheduler;
+import com.composite.EqualTimeScheduler;
+import com.composite.EstimateCaching;
+import com.composite.PaintingScheduler;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A quote of a job - its time, its cost and the printed assignment - asked for over and over again
+ * Without caching every part of the quote schedules the whole tree of composites once more
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteCacheBenchmark {
+
+    @Param({"1", "3"})
+    public int depth;
+
+    @Param({"3"})
+    public int fanOut;
+
+    @Param({"equalTime", "constantVelocity"})
+    public String scheduler;
+
+    @Param({"none", "bySize"})
+    public String caching;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    private Painter crew;
+
+    @Setup
+    public void setUp() {
+        this.crew = Crews.nested(this.depth, this.fanOut, this.schedulerFactory(), this.estimateCaching());
+    }
+
+    private Supplier<PaintingScheduler> schedulerFactory() {
+        return "equalTime".equals(this.scheduler) ? EqualTimeScheduler::new : ConstantVelocityScheduler::new;
+    }
+
+    private EstimateCaching estimateCaching() {
+        return "bySize".equals(this.caching) ? EstimateCaching.bySize(1024) : EstimateCaching.none();
+    }
+
+    @Benchmark
+    public String quote() {
+        return this.crew.estimateTimeToPaint(this.sqMeters) + " "
+                + this.crew.estimateCompensation(this.sqMeters) + " "
+                + this.crew.assign(this.sqMeters);
+    }
+}
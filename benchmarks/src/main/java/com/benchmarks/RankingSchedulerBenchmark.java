@@ -0,0 +1,72 @@
+package com.benchmarks;
+
+import com.composite.RankingScheduler;
+import com.composite.SelectingScheduler;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selecting the cheapest painters out of a large pool
+ * The comparator estimates both painters on every comparison, ranking estimates every painter once
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingSchedulerBenchmark {
+
+    @Param({"10000", "100000"})
+    public int poolSize;
+
+    @Param({"1", "10"})
+    public int k;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    private List<Painter> pool;
+    private SelectingScheduler comparing;
+    private RankingScheduler sequential;
+    private RankingScheduler parallel;
+
+    @Setup
+    public void setUp() {
+        this.pool = Crews.mixed(this.poolSize);
+        this.comparing = new SelectingScheduler(
+                sqMeters -> Comparator.comparing(painter -> painter.estimateCompensation(sqMeters).toCents()));
+        this.sequential = RankingScheduler.cheapest(this.k);
+        this.parallel = RankingScheduler.cheapest(this.k).in(Parallelism.atLeast(4096));
+    }
+
+    @Benchmark
+    public Object comparator() {
+        return this.comparing.schedule(this.pool, this.sqMeters).getStream().findFirst();
+    }
+
+    @Benchmark
+    public List<Painter> rankSequential() {
+        return this.sequential.select(this.pool, this.sqMeters);
+    }
+
+    @Benchmark
+    public List<Painter> rankParallel() {
+        return this.parallel.select(this.pool, this.sqMeters);
+    }
+}
@@ -0,0 +1,77 @@
+package com.benchmarks;
+
+import com.composite.EqualTimeScheduler;
+import com.composite.common.Convergence;
+import com.composite.common.RootFinder;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-day job for a crew of painters not telling their envelopes, so the total time is searched for
+ * Every evaluation asks the whole crew for the area covered, so the time goes with the number of iterations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RootFindingBenchmark {
+
+    @Param({"bisection", "secant", "illinois", "brent"})
+    public String finder;
+
+    @Param({"PT0.001S", "PT1M"})
+    public String tolerance;
+
+    @Param({"100"})
+    public int crewSize;
+
+    @Param({"50000"})
+    public double sqMeters;
+
+    private List<Painter> painters;
+    private EqualTimeScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        this.painters = Crews.mixed(this.crewSize).stream()
+                .map(painter -> SlowPainter.of(painter, Duration.ZERO))
+                .collect(Collectors.toList());
+        this.scheduler = new EqualTimeScheduler().solvingWith(this.createFinder(),
+                Convergence.within(Duration.parse(this.tolerance)));
+    }
+
+    private RootFinder createFinder() {
+        switch (this.finder) {
+            case "secant":
+                return RootFinder.secant();
+            case "illinois":
+                return RootFinder.illinois();
+            case "brent":
+                return RootFinder.brent();
+            default:
+                return RootFinder.bisection();
+        }
+    }
+
+    @Benchmark
+    public long schedule() {
+        return this.scheduler.schedule(this.painters, this.sqMeters).maxNanosToPaint();
+    }
+}
@@ -0,0 +1,82 @@
+package com.benchmarks;
+
+import com.composite.CompositePainter;
+import com.composite.ConstantVelocityScheduler;
+import com.composite.EqualTimeScheduler;
+import com.composite.PaintingScheduler;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flat crews of painters, from a single painter up to ten thousand of them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulingBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int crewSize;
+
+    @Param({"200"})
+    public double sqMeters;
+
+    private List<Painter> painters;
+    private PaintingScheduler equalTime;
+    private PaintingScheduler constantVelocity;
+    private Painter equalTimeCrew;
+    private Painter constantVelocityCrew;
+
+    @Setup
+    public void setUp() {
+        this.painters = Crews.mixed(this.crewSize);
+        this.equalTime = new EqualTimeScheduler();
+        this.constantVelocity = new ConstantVelocityScheduler();
+        this.equalTimeCrew = CompositePainter.of(this.painters, this.equalTime).asOptional().get();
+        this.constantVelocityCrew = CompositePainter.of(this.painters, this.constantVelocity).asOptional().get();
+    }
+
+    @Benchmark
+    public void equalTimeSchedule(Blackhole blackhole) {
+        this.equalTime.schedule(this.painters, this.sqMeters).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void constantVelocitySchedule(Blackhole blackhole) {
+        this.constantVelocity.schedule(this.painters, this.sqMeters).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Duration equalTimeEstimateTimeToPaint() {
+        return this.equalTimeCrew.estimateTimeToPaint(this.sqMeters);
+    }
+
+    @Benchmark
+    public Money equalTimeEstimateCompensation() {
+        return this.equalTimeCrew.estimateCompensation(this.sqMeters);
+    }
+
+    @Benchmark
+    public Duration constantVelocityEstimateTimeToPaint() {
+        return this.constantVelocityCrew.estimateTimeToPaint(this.sqMeters);
+    }
+}
@@ -0,0 +1,85 @@
+package com.benchmarks;
+
+import com.composite.ConstantVelocityScheduler;
+import com.composite.EqualTimeScheduler;
+import com.composite.PaintingScheduler;
+import com.composite.SchedulingSession;
+import com.composite.WorkAssignment;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A painter leaving the crew and joining it again, followed by a look at the assignment of another painter
+ * Rescheduling repeats the whole schedule for both changes, the session adjusts what the change affects
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulingSessionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int crewSize;
+
+    @Param({"equalTime", "constantVelocity"})
+    public String scheduler;
+
+    @Param({"2000"})
+    public double sqMeters;
+
+    private PaintingScheduler paintingScheduler;
+    private List<Painter> crew;
+    private SchedulingSession session;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        this.paintingScheduler = "equalTime".equals(this.scheduler)
+                ? new EqualTimeScheduler()
+                : new ConstantVelocityScheduler();
+        this.crew = new ArrayList<>(Crews.mixed(this.crewSize));
+        this.session = this.paintingScheduler.open(this.crew, this.sqMeters);
+    }
+
+    private Painter nextPainter() {
+        this.next = (this.next + 1) % this.crew.size();
+        return this.crew.get(this.next);
+    }
+
+    @Benchmark
+    public Optional<WorkAssignment> reschedule() {
+        Painter painter = this.nextPainter();
+        List<Painter> without = new ArrayList<>(this.crew);
+        without.remove(painter);
+        this.paintingScheduler.schedule(without, this.sqMeters).timesToPaint().maxOfMany();
+        return this.paintingScheduler.schedule(this.crew, this.sqMeters)
+                .filter(assignment -> assignment.getPainter() == this.crew.get(0))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<WorkAssignment> session() {
+        Painter painter = this.nextPainter();
+        this.session.leave(painter);
+        this.session.assignmentOf(this.crew.get(0));
+        this.session.join(painter);
+        return this.session.assignmentOf(this.crew.get(0));
+    }
+}
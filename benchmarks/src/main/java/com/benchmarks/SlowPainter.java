@@ -0,0 +1,65 @@
+package com.benchmarks;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands for a painter asking a remote estimator, every estimate waits for the given latency first
+ */
+class SlowPainter implements Painter {
+    private final Painter painter;
+    private final long latencyNanos;
+
+    private SlowPainter(Painter painter, Duration latency) {
+        this.painter = painter;
+        this.latencyNanos = latency.toNanos();
+    }
+
+    static Painter of(Painter painter, Duration latency) {
+        return new SlowPainter(painter, latency);
+    }
+
+    @Override
+    public OptionalPainter available() {
+        this.waitForEstimator();
+        return this.painter.available().asOptional()
+                .map(available -> available == this.painter ? this : of(available, Duration.ofNanos(this.latencyNanos)))
+                .map(OptionalPainter::of)
+                .orElseGet(OptionalPainter::empty);
+    }
+
+    @Override
+    public Duration estimateTimeToPaint(double sqMeters) {
+        this.waitForEstimator();
+        return this.painter.estimateTimeToPaint(sqMeters);
+    }
+
+    @Override
+    public Money estimateCompensation(double sqMeters) {
+        this.waitForEstimator();
+        return this.painter.estimateCompensation(sqMeters);
+    }
+
+    @Override
+    public String getName() {
+        return this.painter.getName();
+    }
+
+    @Override
+    public double estimateSqMeters(Duration time) {
+        this.waitForEstimator();
+        return this.painter.estimateSqMeters(time);
+    }
+
+    private void waitForEstimator() {
+        try {
+            TimeUnit.NANOSECONDS.sleep(this.latencyNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.benchmarks;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.StatusBatch;
+import com.multiway.branching.builders.ExhaustiveRulesBuilder;
+import com.multiway.branching.states.DeviceStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Telemetry claimed one status at a time, compared with claiming it as a batch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatusBatchBenchmark {
+
+    @Param({"1000", "100000"})
+    public int batchSize;
+
+    private DeviceStatus[] statuses;
+    private ClaimingRule rule;
+    private StatusBatch batch;
+    private StatusBatch parallelBatch;
+
+    @Setup
+    public void setUp() {
+        LongAdder claims = new LongAdder();
+        this.rule = new ExhaustiveRulesBuilder()
+                .onMoneyBack(s -> claims.increment())
+                .onClaimExpress(s -> claims.increment())
+                .onClaimExtend(s -> claims.increment())
+                .build();
+
+        Random random = new Random(42);
+        this.statuses = new DeviceStatus[this.batchSize];
+        for (int i = 0; i < this.batchSize; i++) {
+            this.statuses[i] = this.randomStatus(random);
+        }
+        this.batch = StatusBatch.of(this.statuses);
+        this.parallelBatch = this.batch.parallel();
+    }
+
+    private DeviceStatus randomStatus(Random random) {
+        DeviceStatus status = DeviceStatus.allFine();
+        if (random.nextBoolean()) {
+            status = status.andNotOperational();
+        }
+        if (random.nextBoolean()) {
+            status = status.andVisiblyDamaged();
+        }
+        return random.nextBoolean() ? status.andSensorFailed(LocalDate.of(2020, 3, 1)) : status;
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        int applied = 0;
+        for (DeviceStatus status : this.statuses) {
+            Optional<Action> action = this.rule.applicableTo(status);
+            if (action.isPresent()) {
+                action.get().apply();
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    @Benchmark
+    public int batch() {
+        return this.batch.applyAll(this.rule);
+    }
+
+    @Benchmark
+    public int parallelBatch() {
+        return this.parallelBatch.applyAll(this.rule);
+    }
+}
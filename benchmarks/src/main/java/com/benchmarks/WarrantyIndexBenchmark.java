@@ -0,0 +1,76 @@
+package com.benchmarks;
+
+import com.multiway.branching.TimeLimitWarranty;
+import com.multiway.branching.ValidityIndex;
+import com.multiway.branching.Warranty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warranties of a fleet sold over four years, each valid for a year
+ * The scan asks every warranty whether it is valid on the day, the index finds those which are
+ * A day in the middle finds a quarter of the fleet, a day at the end of the last sales finds a few hundred warranties
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WarrantyIndexBenchmark {
+    private static final LocalDate FIRST_SALE = LocalDate.of(2020, 1, 1);
+    private static final int SALES_DAYS = 1460;
+
+    @Param({"1000000"})
+    public int fleetSize;
+
+    @Param({"730", "1824"})
+    public int day;
+
+    private List<Warranty> warranties;
+    private ValidityIndex index;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.warranties = new ArrayList<>(this.fleetSize);
+        for (int i = 0; i < this.fleetSize; i++) {
+            this.warranties.add(new TimeLimitWarranty(FIRST_SALE.plusDays(random.nextInt(SALES_DAYS)), Duration.ofDays(365)));
+        }
+        this.index = ValidityIndex.of(this.warranties);
+        this.date = FIRST_SALE.plusDays(this.day);
+    }
+
+    @Benchmark
+    public int scan() {
+        int valid = 0;
+        for (Warranty warranty : this.warranties) {
+            if (warranty.on(this.date) != Warranty.VOID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int index() {
+        return this.index.validOn(this.date).length;
+    }
+}
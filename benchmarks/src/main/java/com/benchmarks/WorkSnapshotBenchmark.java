@@ -0,0 +1,65 @@
+package com.benchmarks;
+
+import com.composite.EqualTimeScheduler;
+import com.composite.PaintingScheduler;
+import com.composite.WorkSnapshot;
+import com.domain.logic.with.streams.Painter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A report reading the same schedule three times - the total cost, the longest time, and every assignment
+ * Streams are gone once read, so the report schedules the crew for each pass, a snapshot is taken once
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkSnapshotBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int crewSize;
+
+    @Param({"2000"})
+    public double sqMeters;
+
+    private List<Painter> painters;
+    private PaintingScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        this.painters = Crews.mixed(this.crewSize);
+        this.scheduler = new EqualTimeScheduler();
+    }
+
+    @Benchmark
+    public void reschedule(Blackhole blackhole) {
+        blackhole.consume(this.scheduler.schedule(this.painters, this.sqMeters).totalCompensationCents());
+        blackhole.consume(this.scheduler.schedule(this.painters, this.sqMeters).maxNanosToPaint());
+        this.scheduler.schedule(this.painters, this.sqMeters)
+                .forEach(assignment -> blackhole.consume(assignment.estimateCompensationCents()));
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole blackhole) {
+        WorkSnapshot snapshot = this.scheduler.schedule(this.painters, this.sqMeters).snapshot();
+        blackhole.consume(snapshot.totalCompensationCents());
+        blackhole.consume(snapshot.maxNanosToPaint());
+        snapshot.forEach((painter, sqMeters, nanosToPaint, compensationCents) -> blackhole.consume(compensationCents));
+    }
+}
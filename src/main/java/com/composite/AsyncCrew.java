@@ -0,0 +1,81 @@
+package com.composite;
+
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Crew asking all of its painters at once, then scheduling those which answered in time
+ * Every painter is first asked whether it is available and how long the whole job would take it
+ * That answer is remembered, a constant velocity crew reads the velocities from it instead of asking again
+ * Equal time crews and the quotes of the shares ask the painters again, the whole crew quote is bounded by the timeout too
+ * Painters not answering within the timeout are left out of the crew, as if they were not available
+ */
+class AsyncCrew implements AsyncPainter {
+    private static final EstimateCaching PREFETCHED = EstimateCaching.bySize(16);
+
+    private final List<Painter> painters;
+    private final PaintingScheduler scheduler;
+    private final AsyncQuoting quoting;
+
+    AsyncCrew(List<Painter> painters, PaintingScheduler scheduler, AsyncQuoting quoting) {
+        this.painters = painters;
+        this.scheduler = scheduler;
+        this.quoting = quoting;
+    }
+
+    @Override
+    public CompletableFuture<OptionalPainter> available() {
+        return this.answering(painter -> painter.available().asOptional())
+                .thenApply(this::workTogether);
+    }
+
+    @Override
+    public CompletableFuture<Quote> quote(double sqMeters) {
+        return this.answering(painter -> painter.available().asOptional()
+                        .map(available -> this.prefetched(available, sqMeters)))
+                .thenApply(this::workTogether)
+                .thenCompose(crew -> crew.asOptional()
+                        .map(painter -> this.quoting.within(this.quoting.supply(() -> painter.quote(sqMeters))))
+                        .orElseGet(() -> failed(new NoSuchElementException("No painter answered in time"))));
+    }
+
+    /**
+     * Asks every painter on the pool at once, and keeps the painters answering in time in the order of the crew
+     */
+    private CompletableFuture<List<Painter>> answering(Function<Painter, Optional<Painter>> ask) {
+        List<CompletableFuture<Optional<Painter>>> answers = this.painters.stream()
+                .map(painter -> this.quoting.within(this.quoting.supply(() -> ask.apply(painter)), Optional::<Painter>empty)
+                        .exceptionally(failure -> Optional.empty()))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(answers.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> answers.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .collect(Collectors.toList()));
+    }
+
+    private Painter prefetched(Painter painter, double sqMeters) {
+        Painter prefetched = PREFETCHED.decorate(painter);
+        prefetched.estimateTimeToPaint(sqMeters);
+        return prefetched;
+    }
+
+    private OptionalPainter workTogether(List<Painter> crew) {
+        return CompositePainter.of(crew, this.scheduler, Parallelism.atLeast(1));
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable failure) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(failure);
+        return result;
+    }
+}
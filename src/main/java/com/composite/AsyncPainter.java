@@ -0,0 +1,25 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Painter answering without blocking the caller, for painters which ask remote estimators
+ * Estimates run on the pool of AsyncQuoting, painters not answering within its timeout are treated as unavailable
+ * A crew asks all of its painters at once, so it waits as long as its slowest painter instead of for all of them in turn
+ */
+public interface AsyncPainter {
+    CompletableFuture<OptionalPainter> available();
+    CompletableFuture<Quote> quote(double sqMeters);
+
+    default CompletableFuture<Duration> estimateTimeToPaint(double sqMeters) {
+        return this.quote(sqMeters).thenApply(Quote::getTimeToPaint);
+    }
+
+    default CompletableFuture<Money> estimateCompensation(double sqMeters) {
+        return this.quote(sqMeters).thenApply(Quote::getCompensation);
+    }
+}
@@ -0,0 +1,128 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool and timeout shared by asynchronous painters
+ * The pool is bounded, it never runs more estimates at once than its parallelism
+ * Parallel streams started on the pool stay on it, so crews estimate their painters there and not on the common pool
+ * Timeouts are kept by a single daemon thread, a painter answering late is left to finish and its answer is ignored
+ */
+public class AsyncQuoting implements AutoCloseable {
+    private static final ScheduledExecutorService TIMER = timer();
+
+    private final ForkJoinPool pool;
+    private final Duration timeout;
+    private final boolean ownsPool;
+
+    private AsyncQuoting(ForkJoinPool pool, Duration timeout, boolean ownsPool) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        this.pool = pool;
+        this.timeout = timeout;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Runs estimates on a pool of its own, at most threads of them at once, the pool is shut down on close
+     * @param threads
+     * @param timeout
+     * @return
+     */
+    public static AsyncQuoting bounded(int threads, Duration timeout) {
+        return new AsyncQuoting(new ForkJoinPool(threads), timeout, true);
+    }
+
+    /**
+     * Runs estimates on the given pool, which is left running on close
+     * @param pool
+     * @param timeout
+     * @return
+     */
+    public static AsyncQuoting on(ForkJoinPool pool, Duration timeout) {
+        return new AsyncQuoting(pool, timeout, false);
+    }
+
+    public AsyncPainter of(Painter painter) {
+        return new AsyncSinglePainter(painter, this);
+    }
+
+    /**
+     * Crew of painters asked all at once, scheduled by the given scheduler
+     * Schedulers built with Parallelism.atLeast(1) estimate the crew in parallel on the pool as well
+     * @param painters
+     * @param scheduler
+     * @return
+     */
+    public AsyncPainter crew(List<Painter> painters, PaintingScheduler scheduler) {
+        return new AsyncCrew(painters, scheduler, this);
+    }
+
+    <T> CompletableFuture<T> supply(Supplier<T> estimate) {
+        return CompletableFuture.supplyAsync(estimate, this.pool);
+    }
+
+    /**
+     * Completes with the fallback when the estimate does not complete within the timeout
+     */
+    <T> CompletableFuture<T> within(CompletableFuture<T> estimate, Supplier<T> fallback) {
+        return this.expiring(estimate, result -> result.complete(fallback.get()));
+    }
+
+    /**
+     * Fails with a TimeoutException when the estimate does not complete within the timeout
+     */
+    <T> CompletableFuture<T> within(CompletableFuture<T> estimate) {
+        return this.expiring(estimate, result -> result.completeExceptionally(
+                new TimeoutException("No estimate within " + this.timeout)));
+    }
+
+    private <T> CompletableFuture<T> expiring(CompletableFuture<T> estimate, Consumer<CompletableFuture<T>> expire) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ScheduledFuture<?> expiry = TIMER.schedule(() -> expire.accept(result), this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+        estimate.whenComplete((value, failure) -> {
+            expiry.cancel(false);
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (this.ownsPool) {
+            this.pool.shutdown();
+        }
+    }
+
+    private static ScheduledExecutorService timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "async-quoting-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("at most %d estimates at once, each within %s", this.pool.getParallelism(), this.timeout);
+    }
+}
@@ -0,0 +1,29 @@
+package com.composite;
+
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One painter estimating on the pool, a painter not answering in time is unavailable and its quote fails
+ */
+class AsyncSinglePainter implements AsyncPainter {
+    private final Painter painter;
+    private final AsyncQuoting quoting;
+
+    AsyncSinglePainter(Painter painter, AsyncQuoting quoting) {
+        this.painter = painter;
+        this.quoting = quoting;
+    }
+
+    @Override
+    public CompletableFuture<OptionalPainter> available() {
+        return this.quoting.within(this.quoting.supply(this.painter::available), OptionalPainter::empty);
+    }
+
+    @Override
+    public CompletableFuture<Quote> quote(double sqMeters) {
+        return this.quoting.within(this.quoting.supply(() -> this.painter.quote(sqMeters)));
+    }
+}
@@ -0,0 +1,139 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.DoubleFunction;
+
+/**
+ * Decorator remembering the estimates of the painter it wraps
+ * Composite painters schedule their whole crew on every estimate, asking the same one twice repeats all that work
+ * Each kind of estimate has its own bounded cache, keyed by the rounded area or time as EstimateCaching rounds them
+ * Envelopes are not cached, they grow with the horizon and callers ask for them once per schedule
+ */
+public class CachingPainter implements Painter {
+    private final Painter painter;
+    private final EstimateCaching caching;
+    private final Cache<Long, Duration> timesToPaint;
+    private final Cache<Long, Money> compensations;
+    private final Cache<Long, Double> sqMeters;
+    private final Cache<Long, Optional<Duration>> timesForSqMeters;
+    private final Cache<Long, Quote> quotes;
+
+    private CachingPainter(Painter painter, EstimateCaching caching) {
+        this.painter = painter;
+        this.caching = caching;
+        this.timesToPaint = caching.newCache();
+        this.compensations = caching.newCache();
+        this.sqMeters = caching.newCache();
+        this.timesForSqMeters = caching.newCache();
+        this.quotes = caching.newCache();
+    }
+
+    public static CachingPainter of(Painter painter, EstimateCaching caching) {
+        return new CachingPainter(painter, caching);
+    }
+
+    /**
+     * Hits and misses of all the estimates together
+     * @return
+     */
+    public CacheStats stats() {
+        return this.timesToPaint.stats()
+                .plus(this.compensations.stats())
+                .plus(this.sqMeters.stats())
+                .plus(this.timesForSqMeters.stats())
+                .plus(this.quotes.stats());
+    }
+
+    /**
+     * The same painter being available keeps its estimates, any other painter gets caches of its own
+     * @return
+     */
+    @Override
+    public OptionalPainter available() {
+        return this.painter.available()
+                .mapPainter(available -> available == this.painter ? this : of(available, this.caching));
+    }
+
+    @Override
+    public Duration estimateTimeToPaint(double sqMeters) {
+        return this.bySqMeters(this.timesToPaint, sqMeters, this.painter::estimateTimeToPaint);
+    }
+
+    @Override
+    public long estimateNanosToPaint(double sqMeters) {
+        return this.estimateTimeToPaint(sqMeters).toNanos();
+    }
+
+    @Override
+    public Money estimateCompensation(double sqMeters) {
+        return this.bySqMeters(this.compensations, sqMeters, this.painter::estimateCompensation);
+    }
+
+    @Override
+    public long estimateCompensationCents(double sqMeters) {
+        return this.estimateCompensation(sqMeters).toCents();
+    }
+
+    @Override
+    public Quote quote(double sqMeters) {
+        return this.bySqMeters(this.quotes, sqMeters, this.painter::quote);
+    }
+
+    @Override
+    public String getName() {
+        return this.painter.getName();
+    }
+
+    @Override
+    public double estimateSqMeters(Duration time) {
+        long key = this.caching.timeKey(time);
+        return get(this.sqMeters, key, () -> this.painter.estimateSqMeters(this.caching.timeOf(key)));
+    }
+
+    @Override
+    public Optional<Duration> timeForSqMeters(double sqMeters) {
+        return this.bySqMeters(this.timesForSqMeters, sqMeters, this.painter::timeForSqMeters);
+    }
+
+    @Override
+    public Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        return this.painter.estimateEnvelope(horizon);
+    }
+
+    private <V> V bySqMeters(Cache<Long, V> cache, double sqMeters, DoubleFunction<V> estimate) {
+        if (!this.caching.isCacheable(sqMeters)) {
+            return estimate.apply(sqMeters);
+        }
+        long key = this.caching.sqMetersKey(sqMeters);
+        return get(cache, key, () -> estimate.apply(this.caching.sqMetersOf(key)));
+    }
+
+    /**
+     * Exceptions of the painter reach the caller as the painter threw them
+     */
+    private static <V> V get(Cache<Long, V> cache, long key, Callable<V> estimate) {
+        try {
+            return cache.get(key, estimate);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.painter.toString();
+    }
+}
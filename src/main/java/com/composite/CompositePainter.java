@@ -4,7 +4,9 @@ import com.domain.logic.with.streams.*;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.Optional;
 
@@ -26,6 +28,9 @@ import java.util.Optional;
 public class CompositePainter implements Painter {
     private List<Painter> subordinatePainters;
     private PaintingScheduler scheduler;
+    private Parallelism parallelism;
+    private Optional<PainterRegistry> registry;
+    private Optional<EvaluationPlan> plan;
 
     /**
      * A CompositePainter should never be created without a list of painters
@@ -35,18 +40,99 @@ public class CompositePainter implements Painter {
      * @param subordinatePainters
      */
 //    public CompositePainter(List<Painter> painters) {
-    private CompositePainter(List<Painter> subordinatePainters, PaintingScheduler scheduler) {
+    private CompositePainter(List<Painter> subordinatePainters, PaintingScheduler scheduler, Parallelism parallelism) {
+        this(subordinatePainters, scheduler, parallelism, Optional.empty());
+    }
+
+    private CompositePainter(List<Painter> subordinatePainters, PaintingScheduler scheduler, Parallelism parallelism,
+                             Optional<PainterRegistry> registry) {
+        this(subordinatePainters, scheduler, parallelism, registry, Optional.empty());
+    }
+
+    private CompositePainter(List<Painter> subordinatePainters, PaintingScheduler scheduler, Parallelism parallelism,
+                             Optional<PainterRegistry> registry, Optional<EvaluationPlan> plan) {
         this.subordinatePainters = subordinatePainters;
         this.scheduler = scheduler;
+        this.parallelism = parallelism;
+        this.registry = registry;
+        this.plan = plan;
     }
 
     public static OptionalPainter of(List<Painter> subordinatePainters, PaintingScheduler scheduler) {
+        return of(subordinatePainters, scheduler, Parallelism.sequential());
+    }
+
+    /**
+     * Large crews can be estimated in parallel, the results are the same as when estimated sequentially
+     * @param subordinatePainters
+     * @param scheduler
+     * @param parallelism
+     * @return
+     */
+    public static OptionalPainter of(List<Painter> subordinatePainters, PaintingScheduler scheduler, Parallelism parallelism) {
+        return of(subordinatePainters, scheduler, parallelism, EstimateCaching.none());
+    }
+
+    /**
+     * Repeated quotes for the same job are answered from the cache, instead of scheduling the whole crew again
+     * @param subordinatePainters
+     * @param scheduler
+     * @param parallelism
+     * @param caching
+     * @return
+     */
+    public static OptionalPainter of(List<Painter> subordinatePainters, PaintingScheduler scheduler, Parallelism parallelism,
+                                     EstimateCaching caching) {
         return subordinatePainters.isEmpty()
                 ? OptionalPainter.empty()
-                : OptionalPainter.of(new CompositePainter(subordinatePainters, scheduler));
+                : OptionalPainter.of(caching.decorate(new CompositePainter(subordinatePainters, scheduler, parallelism)));
 
     }
 
+    /**
+     * Schedulers able to use the index of the registry find their painters without asking each of them
+     * @param registry
+     * @param scheduler
+     * @return
+     */
+    public static OptionalPainter of(PainterRegistry registry, PaintingScheduler scheduler) {
+        return registry.isEmpty()
+                ? OptionalPainter.empty()
+                : OptionalPainter.of(new CompositePainter(
+                        registry.getPainters(), scheduler, Parallelism.sequential(), Optional.of(registry)));
+    }
+
+    /**
+     * Nested equal time composites are evaluated as one crew of their leaf painters, with a single search for the time
+     * Assignments still name the nested composites, any other painter is returned as it is
+     * @param painter
+     * @return
+     */
+    public static Painter flatten(Painter painter) {
+        return painter instanceof CompositePainter ? ((CompositePainter) painter).flattened() : painter;
+    }
+
+    /**
+     * The same crew evaluated through a flat plan, or this composite when there is nothing to flatten
+     * @return
+     */
+    public Painter flattened() {
+        return this.plan.isPresent()
+                ? this
+                : EvaluationPlan.of(this.scheduler, this.parallelism, this.subordinatePainters)
+                        .<Painter>map(plan -> new CompositePainter(
+                                this.subordinatePainters, this.scheduler, this.parallelism, this.registry, Optional.of(plan)))
+                        .orElse(this);
+    }
+
+    List<Painter> getSubordinatePainters() {
+        return this.subordinatePainters;
+    }
+
+    PaintingScheduler getScheduler() {
+        return this.scheduler;
+    }
+
     /**
      * Returning a boolean is a problem, since this method is telling the caller how to implement a varying feature.
      * It should offer a polymorphic service instead (for ex, available)
@@ -63,7 +149,29 @@ public class CompositePainter implements Painter {
 //        return CompositePainter.of(
 //            painters().available().collect(Collectors.toList()), this.scheduler
 //        ).map(Function.identity());
-        return painters().available().workTogether(this.scheduler);
+        List<Painter> painters = painters().available().collect(Collectors.toList());
+        OptionalPainter available = this.isSameCrew(painters)
+                ? OptionalPainter.of(this)
+                : this.workTogether(painters);
+        return this.plan.isPresent() ? available.mapPainter(CompositePainter::flatten) : available;
+    }
+
+    /**
+     * A crew indexed by a registry keeps being indexed, by a registry of the painters still available
+     */
+    private OptionalPainter workTogether(List<Painter> painters) {
+        return this.registry.isPresent()
+                ? CompositePainter.of(PainterRegistry.of(painters), this.scheduler)
+                : CompositePainter.of(painters, this.scheduler, this.parallelism);
+    }
+
+    /**
+     * A crew whose painters are all available as they are is this composite itself
+     * It keeps its registry instead of indexing the painters again, and a cache around it keeps its estimates
+     */
+    private boolean isSameCrew(List<Painter> available) {
+        return available.size() == this.subordinatePainters.size()
+                && IntStream.range(0, available.size()).allMatch(index -> available.get(index) == this.subordinatePainters.get(index));
     }
 
     /**
@@ -73,13 +181,19 @@ public class CompositePainter implements Painter {
      */
     @Override
     public Duration estimateTimeToPaint(double sqMeters) {
-        return this.schedule(sqMeters)
+        return Duration.ofNanos(this.estimateNanosToPaint(sqMeters));
+//        return this.schedule(sqMeters)
 //                .map(WorkAssignment::estimateTimeToPaint)
-                .timesToPaint()
+//                .timesToPaint()
                 // Transform this stream of duration into a DurationStream
 //                .max(Duration::compareTo)
 //                .get();
-                .maxOfMany();
+//                .maxOfMany();
+    }
+
+    @Override
+    public long estimateNanosToPaint(double sqMeters) {
+        return this.schedule(sqMeters).maxNanosToPaint();
     }
 
 //    @Override
@@ -145,15 +259,52 @@ public class CompositePainter implements Painter {
      */
     @Override
     public Money estimateCompensation(double sqMeters) {
-        return this.schedule(sqMeters)
+        return Money.ofCents(this.estimateCompensationCents(sqMeters));
+//        return this.schedule(sqMeters)
                 // Mapping work assignment to a stream of many objects, means ask  for compensation
 //                .map(WorkAssignment::estimateCompensation)
-                .compensations()
-                .sum();
+//                .compensations()
+//                .sum();
+    }
+
+    /**
+     * Compensations of the crew are added up in whole cents, Money is only built by the caller
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public long estimateCompensationCents(double sqMeters) {
+        return this.schedule(sqMeters).totalCompensationCents();
+    }
+
+    /**
+     * Time and cost come from the same schedule, and every subordinate painter is quoted once for both
+     * Nested composites quote their own crews the same way, so no level schedules its crew twice
+     * Asking for time and cost one after the other schedules every level twice
+     * A crew with nobody scheduled cannot tell how long it takes
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public Quote quote(double sqMeters) {
+        ScheduleResult result = this.evaluate(sqMeters);
+        if (result.isEmpty()) {
+            throw new NoSuchElementException("No painter is scheduled");
+        }
+        return Quote.of(sqMeters, result.getQuote().getNanosToPaint(), result.getQuote().getCompensationCents());
+    }
+
+    private ScheduleResult evaluate(double sqMeters) {
+        return this.schedule(sqMeters).evaluate();
     }
 
     private WorkStream schedule(double sqMeters) {
-        return this.scheduler.schedule(this.subordinatePainters, sqMeters);
+        WorkStream schedule = this.plan
+                .map(plan -> plan.schedule(sqMeters))
+                .orElseGet(() -> this.registry
+                        .map(registry -> this.scheduler.schedule(registry, sqMeters))
+                        .orElseGet(() -> this.scheduler.schedule(this.subordinatePainters, sqMeters)));
+        return WorkAssignment.stream(this.parallelism.stream(schedule.getStream(), this.subordinatePainters.size()));
     }
 
 //    @Override
@@ -178,14 +329,36 @@ public class CompositePainter implements Painter {
     @Override
     public double estimateSqMeters(Duration time) {
 //        return Painter.stream(painters) --> we can give this a name, since it is used a lot
-        return painters().estimateSqMeters(time);
+        return this.plan
+                .map(plan -> plan.estimateSqMeters(time))
+                .orElseGet(() -> painters().estimateSqMeters(time));
                     // Low level code belongs to low level class
 //                .mapToDouble(painter -> painter.estimateSqMeters(time)) --> this can be replaced for a method with an expressive name
 //                .sum();
     }
 
+    /**
+     * Painters work together until they all stop at the same time
+     * The horizon is the time the fastest of them needs alone
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public Optional<Duration> timeForSqMeters(double sqMeters) {
+        return painters().timesForSqMeters(sqMeters).min()
+                .flatMap(horizon -> this.estimateEnvelope(horizon.plusSeconds(1)))
+                .flatMap(envelope -> envelope.timeFor(sqMeters));
+    }
+
+    @Override
+    public Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        return this.plan
+                .map(plan -> plan.estimateEnvelope(horizon))
+                .orElseGet(() -> SqMetersEnvelope.of(this.subordinatePainters, horizon));
+    }
+
     private PaintersStream painters() {
-        return Painter.stream(subordinatePainters);
+        return Painter.stream(subordinatePainters, this.parallelism);
     }
 
     private Stream<String> getPainterNames() {
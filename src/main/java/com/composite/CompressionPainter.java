@@ -6,7 +6,9 @@ import com.domain.logic.with.streams.Painter;
 
 import javax.swing.text.html.Option;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class CompressionPainter implements Painter {
 
@@ -34,6 +36,18 @@ public class CompressionPainter implements Painter {
         return fillTime.getSeconds();
     }
 
+    double getSqMetersPerHour() {
+        return this.sqMetersPerHour;
+    }
+
+    double getFillAfterSqMeters() {
+        return this.fillAfterSqMeters;
+    }
+
+    MoneyRate getRate() {
+        return this.rate;
+    }
+
     @Override
     public OptionalPainter available() {
         return OptionalPainter.of(this);
@@ -41,15 +55,39 @@ public class CompressionPainter implements Painter {
 
     @Override
     public Duration estimateTimeToPaint(double sqMeters) {
-        Duration effectivePainting = Duration.ofSeconds((int)(sqMeters / this.sqMetersPerHour * 3600));
-        int refillCount = (int)Math.ceil(sqMeters / this.fillAfterSqMeters);
-        Duration refillTime = this.fillTime.multipliedBy(refillCount);
-        return effectivePainting.plus(refillTime).plus(this.cleaningTime);
+        return Duration.ofSeconds(this.getSecondsToPaint(sqMeters));
     }
 
     @Override
     public Money estimateCompensation(double sqMeters) {
-        return this.rate.getTotalFor(estimateTimeToPaint(sqMeters));
+        return Money.ofCents(this.estimateCompensationCents(sqMeters));
+    }
+
+    @Override
+    public long estimateNanosToPaint(double sqMeters) {
+        return TimeUnit.SECONDS.toNanos(this.getSecondsToPaint(sqMeters));
+    }
+
+    @Override
+    public long estimateCompensationCents(double sqMeters) {
+        return this.rate.getTotalCentsFor(this.getSecondsToPaint(sqMeters));
+    }
+
+    @Override
+    public double estimateSqMetersPerSecond(double sqMeters) {
+        return sqMeters / (double) this.getSecondsToPaint(sqMeters);
+    }
+
+    /**
+     * Effective painting, then refilling the compressor before every burst, then cleaning
+     * @param sqMeters
+     * @return
+     */
+    private long getSecondsToPaint(double sqMeters) {
+        long effectivePainting = (int)(sqMeters / this.sqMetersPerHour * 3600);
+        int refillCount = (int)Math.ceil(sqMeters / this.fillAfterSqMeters);
+        long refillTime = Math.multiplyExact(this.getFillSeconds(), (long) refillCount);
+        return Math.addExact(Math.addExact(effectivePainting, refillTime), this.getCleaningSeconds());
     }
 
     @Override
@@ -66,8 +104,75 @@ public class CompressionPainter implements Painter {
         double fullBurst = (long)(remainingSeconds / fullBurstSeconds);
         double lastBurstSeconds = remainingSeconds - fullBurst * fullBurstSeconds;
         double lastBurstPaintingSeconds = Math.max(lastBurstSeconds - getFillSeconds(), 0);
-        double totalPaintingSeconds = fullBurstSeconds * burstSeconds + lastBurstPaintingSeconds;
+        double totalPaintingSeconds = fullBurst * burstSeconds + lastBurstPaintingSeconds;
 
         return this.sqMetersPerHour * totalPaintingSeconds / 3600;
     }
+
+    /**
+     * Cleaning comes first, then every burst of painting is preceded by filling the compressor
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public Optional<Duration> timeForSqMeters(double sqMeters) {
+        double fullBursts = Math.max(Math.ceil(sqMeters / this.fillAfterSqMeters) - 1, 0);
+        double seconds = sqMeters <= 0 ? 0
+                : this.getCleaningSeconds() + fullBursts * this.getFullBurstSeconds()
+                + this.getFillSeconds() + (sqMeters - fullBursts * this.fillAfterSqMeters) / this.sqMetersPerHour * 3600;
+
+        return Optional.of(SqMetersEnvelope.wholeSecondsReaching(
+                sqMeters, seconds, wholeSeconds -> this.estimateSqMeters(Duration.ofSeconds(wholeSeconds))));
+    }
+
+    /**
+     * Flat while cleaning and while filling, rising while painting a burst
+     * @param horizon
+     * @return
+     */
+    @Override
+    public Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        double horizonSeconds = horizon.getSeconds();
+        int bursts = (int) Math.ceil(Math.max(horizonSeconds - this.getCleaningSeconds(), 0) / this.getFullBurstSeconds());
+        double[] seconds = new double[3 * bursts + 3];
+        double[] sqMeters = new double[3 * bursts + 3];
+
+        int count = 1;
+        double time = Math.min(this.getCleaningSeconds(), horizonSeconds);
+        for (int burst = 0; burst < bursts; burst++) {
+            count = this.addBreakpoint(seconds, sqMeters, count, time, burst * this.fillAfterSqMeters, horizonSeconds);
+            time += this.getFillSeconds();
+            count = this.addBreakpoint(seconds, sqMeters, count, time, burst * this.fillAfterSqMeters, horizonSeconds);
+            time += this.getBurstSeconds();
+            count = this.addBreakpoint(seconds, sqMeters, count, time, (burst + 1) * this.fillAfterSqMeters, horizonSeconds);
+        }
+        count = this.addBreakpoint(seconds, sqMeters, count, horizonSeconds, this.estimateSqMeters(horizon), horizonSeconds);
+
+        return Optional.of(new SqMetersEnvelope(Arrays.copyOf(seconds, count), Arrays.copyOf(sqMeters, count)));
+    }
+
+    /**
+     * Breakpoints beyond the horizon are cut at the horizon, where the area is interpolated
+     */
+    private int addBreakpoint(double[] seconds, double[] sqMeters, int count, double time, double area, double horizonSeconds) {
+        double previousTime = seconds[count - 1];
+        if (previousTime >= horizonSeconds || time <= previousTime) {
+            return count;
+        }
+        if (time > horizonSeconds) {
+            area = sqMeters[count - 1] + (area - sqMeters[count - 1]) * (horizonSeconds - previousTime) / (time - previousTime);
+            time = horizonSeconds;
+        }
+        seconds[count] = time;
+        sqMeters[count] = area;
+        return count + 1;
+    }
+
+    private double getBurstSeconds() {
+        return 3600 * this.fillAfterSqMeters / this.sqMetersPerHour;
+    }
+
+    private double getFullBurstSeconds() {
+        return this.getBurstSeconds() + this.getFillSeconds();
+    }
 }
@@ -1,30 +1,85 @@
 package com.composite;
 
 import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
 import com.domain.logic.with.streams.WorkStream;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
 
 public class ConstantVelocityScheduler implements PaintingScheduler {
+    private final Parallelism parallelism;
+
+    public ConstantVelocityScheduler() {
+        this(Parallelism.sequential());
+    }
+
+    public ConstantVelocityScheduler(Parallelism parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public WorkStream schedule(List<Painter> painters, double sqMeters) {
-        return this.schedule(painters, sqMeters, this.estimateTotalVelocity(painters, sqMeters));
+        double[] velocities = this.estimateVelocities(painters, sqMeters);
+        return this.schedule(painters, sqMeters, velocities, this.estimateTotalVelocity(velocities));
+    }
+
+    /**
+     * Share of a painter in the area, painters done within a second have an infinite velocity
+     * When there are any, they share the area evenly and the others get none
+     * @param sqMeters
+     * @param velocity
+     * @param totalVelocity of the painters with a finite velocity
+     * @param nonFinite number of painters with an infinite velocity
+     * @return
+     */
+    static double sqMetersFor(double sqMeters, double velocity, double totalVelocity, int nonFinite) {
+        return nonFinite == 0
+                ? sqMeters * (velocity / totalVelocity)
+                : Double.isFinite(velocity) ? 0 : sqMeters / nonFinite;
+    }
+
+    /**
+     * Painters joining and leaving only add their velocity to the total or take it away
+     * @param painters
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public SchedulingSession open(List<Painter> painters, double sqMeters) {
+        return new ConstantVelocitySession(painters, sqMeters);
     }
 
-    private WorkStream schedule(List<Painter> painters, double sqMeters, Velocity totalVelocity) {
-        return  WorkAssignment.stream(Painter.stream(painters)
+    /**
+     * Each painter gets the share of its velocity in the total velocity
+     * Velocities are estimated once per painter, in sq. meters per second
+     */
+    private WorkStream schedule(List<Painter> painters, double sqMeters, double[] velocities, double totalVelocity) {
+        int nonFinite = (int) Arrays.stream(velocities).filter(velocity -> !Double.isFinite(velocity)).count();
+        return  WorkAssignment.stream(this.parallelism.range(painters.size())
 //                .available()  // To expose behavior composable, this method is removed
                                 // e.g filter(), then schedule()
-                .map(painter -> painter.assign(sqMeters * painter.estimateVelocity(sqMeters).divideBy(totalVelocity))));
+                .mapToObj(index -> painters.get(index).assign(
+                        sqMetersFor(sqMeters, velocities[index], totalVelocity, nonFinite))));
+    }
+
+    private double[] estimateVelocities(List<Painter> painters, double sqMeters) {
+        return this.parallelism.range(painters.size())
+                .mapToDouble(index -> painters.get(index).estimateSqMetersPerSecond(sqMeters))
+                .toArray();
     }
 
-    private Velocity estimateTotalVelocity(List<Painter> painters, double sqMeters) {
-        return Painter.stream(painters)
-//                .available()
-                .map(painter -> painter.estimateVelocity(sqMeters))
-                .reduce(Velocity::add)
-                .orElse(Velocity.ZERO);
+    /**
+     * Added up in the order of painters, the same way Velocity::add did, leaving out infinite velocities
+     */
+    private double estimateTotalVelocity(double[] velocities) {
+        double total = 0;
+        for (double velocity : velocities) {
+            if (Double.isFinite(velocity)) {
+                total += velocity;
+            }
+        }
+        return total;
     }
 
 }
@@ -0,0 +1,104 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the velocity of every painter and the total velocity of the crew
+ * A painter joining or leaving costs one velocity estimate and one addition, whatever the size of the crew
+ * The total is a compensated sum, so painters leaving do not leave rounding errors behind
+ * The scheduler adds velocities up from left to right, so its shares may differ from the session's in the last bits
+ * Painters done within a second have an infinite velocity, those are kept out of the sum and counted instead
+ * Such painters share the area evenly among themselves and the others get none, the same as in the scheduler
+ */
+class ConstantVelocitySession implements SchedulingSession {
+    private final double sqMeters;
+    private final Map<Painter, Double> velocities = new LinkedHashMap<>();
+    private double totalVelocity;
+    private double compensation;
+    private int nonFinite;
+
+    ConstantVelocitySession(List<Painter> painters, double sqMeters) {
+        this.sqMeters = sqMeters;
+        painters.forEach(this::join);
+    }
+
+    @Override
+    public boolean join(Painter painter) {
+        if (this.velocities.containsKey(painter)) {
+            return false;
+        }
+        double velocity = painter.estimateSqMetersPerSecond(this.sqMeters);
+        this.velocities.put(painter, velocity);
+        if (Double.isFinite(velocity)) {
+            this.addToTotal(velocity);
+        } else {
+            this.nonFinite++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean leave(Painter painter) {
+        Double velocity = this.velocities.remove(painter);
+        if (velocity == null) {
+            return false;
+        }
+        if (this.velocities.isEmpty()) {
+            this.totalVelocity = 0;
+            this.compensation = 0;
+            this.nonFinite = 0;
+        } else if (Double.isFinite(velocity)) {
+            this.addToTotal(-velocity);
+        } else {
+            this.nonFinite--;
+        }
+        return true;
+    }
+
+    /**
+     * Neumaier summation, keeps the low order bits the total cannot hold
+     */
+    private void addToTotal(double velocity) {
+        double total = this.totalVelocity + velocity;
+        this.compensation += Math.abs(this.totalVelocity) >= Math.abs(velocity)
+                ? (this.totalVelocity - total) + velocity
+                : (velocity - total) + this.totalVelocity;
+        this.totalVelocity = total;
+    }
+
+    private double getTotalVelocity() {
+        return this.totalVelocity + this.compensation;
+    }
+
+    private double sqMetersFor(double velocity, double totalVelocity) {
+        return ConstantVelocityScheduler.sqMetersFor(this.sqMeters, velocity, totalVelocity, this.nonFinite);
+    }
+
+    @Override
+    public List<Painter> getPainters() {
+        return new ArrayList<>(this.velocities.keySet());
+    }
+
+    @Override
+    public WorkStream schedule() {
+        double totalVelocity = this.getTotalVelocity();
+        return WorkAssignment.stream(this.velocities.entrySet().stream()
+                .map(entry -> entry.getKey().assign(this.sqMetersFor(entry.getValue(), totalVelocity)))
+                .collect(Collectors.toList())
+                .stream());
+    }
+
+    @Override
+    public Optional<WorkAssignment> assignmentOf(Painter painter) {
+        return Optional.ofNullable(this.velocities.get(painter))
+                .map(velocity -> painter.assign(this.sqMetersFor(velocity, this.getTotalVelocity())));
+    }
+}
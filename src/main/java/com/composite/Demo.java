@@ -5,7 +5,6 @@ import com.domain.logic.with.streams.Money;
 import com.domain.logic.with.streams.OptionalAssigment;
 import com.domain.logic.with.streams.OptionalPainter;
 import com.domain.logic.with.streams.Painter;
-import com.sun.xml.internal.bind.v2.runtime.reflect.opt.Const;
 
 import java.math.BigDecimal;
 import java.time.Duration;
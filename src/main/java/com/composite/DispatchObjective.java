@@ -0,0 +1,61 @@
+package com.composite;
+
+import java.util.Comparator;
+
+/**
+ * What the dispatcher minimizes, both when it picks painters for a job and when it picks the best of its plans
+ * Painters ranked lower are preferred, among painters ranked equally the one available first is picked
+ */
+public interface DispatchObjective {
+
+    /**
+     * Rank of painters finishing the job at finishNanos from the start of dispatch, for compensationCents
+     * @param finishNanos
+     * @param compensationCents
+     * @param late
+     * @return
+     */
+    double rank(long finishNanos, long compensationCents, boolean late);
+
+    Comparator<DispatchPlan> plans();
+
+    /**
+     * Every job goes to the painters finishing it first, the plan finishing its last job first is the best
+     * @return
+     */
+    static DispatchObjective makespan() {
+        return new DispatchObjective() {
+            @Override
+            public double rank(long finishNanos, long compensationCents, boolean late) {
+                return finishNanos;
+            }
+
+            @Override
+            public Comparator<DispatchPlan> plans() {
+                return Comparator.comparingLong(DispatchPlan::getMakespanNanos)
+                        .thenComparingLong(DispatchPlan::getCompensationCents);
+            }
+        };
+    }
+
+    /**
+     * Every job goes to the cheapest painters meeting its deadline, the others are ranked by when they finish it
+     * The plan with the fewest late jobs is the best, then the cheapest of them
+     * @return
+     */
+    static DispatchObjective cost() {
+        return new DispatchObjective() {
+            @Override
+            public double rank(long finishNanos, long compensationCents, boolean late) {
+                return late ? 1e18 + finishNanos : compensationCents;
+            }
+
+            @Override
+            public Comparator<DispatchPlan> plans() {
+                return Comparator.comparingInt(DispatchPlan::getLateJobs)
+                        .thenComparingLong(DispatchPlan::getCompensationCents)
+                        .thenComparingLong(DispatchPlan::getMakespanNanos);
+            }
+        };
+    }
+}
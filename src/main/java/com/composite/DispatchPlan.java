@@ -0,0 +1,95 @@
+package com.composite;
+
+import com.composite.common.TimeUtils;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Jobs of a dispatch with the assignments of their painters, in the order the jobs were given
+ * Times are counted from the start of dispatch, assignments answer from the quotes made while dispatching
+ */
+public class DispatchPlan {
+    private final List<Job> jobs;
+    private final List<List<WorkAssignment>> assignments;
+    private final long[] startNanos;
+    private final long[] finishNanos;
+    private final long makespanNanos;
+    private final long compensationCents;
+    private final int lateJobs;
+
+    DispatchPlan(List<Job> jobs, List<List<WorkAssignment>> assignments, long[] startNanos, long[] finishNanos) {
+        this.jobs = jobs;
+        this.assignments = assignments;
+        this.startNanos = startNanos;
+        this.finishNanos = finishNanos;
+        long makespanNanos = 0;
+        long compensationCents = 0;
+        int lateJobs = 0;
+        for (int job = 0; job < jobs.size(); job++) {
+            makespanNanos = Math.max(makespanNanos, finishNanos[job]);
+            compensationCents = Math.addExact(compensationCents, this.stream(job).totalCompensationCents());
+            lateJobs += this.isLate(job) ? 1 : 0;
+        }
+        this.makespanNanos = makespanNanos;
+        this.compensationCents = compensationCents;
+        this.lateJobs = lateJobs;
+    }
+
+    public int size() {
+        return this.jobs.size();
+    }
+
+    public Job getJob(int job) {
+        return this.jobs.get(job);
+    }
+
+    /**
+     * Assignments of the job, the stream can be consumed once, and asked for again
+     * @param job
+     * @return
+     */
+    public WorkStream stream(int job) {
+        return WorkAssignment.stream(this.assignments.get(job).stream());
+    }
+
+    public Duration getStart(int job) {
+        return Duration.ofNanos(this.startNanos[job]);
+    }
+
+    public Duration getFinish(int job) {
+        return Duration.ofNanos(this.finishNanos[job]);
+    }
+
+    public boolean isLate(int job) {
+        return this.finishNanos[job] > this.jobs.get(job).getDeadlineNanos();
+    }
+
+    public Duration getMakespan() {
+        return Duration.ofNanos(this.makespanNanos);
+    }
+
+    public long getMakespanNanos() {
+        return this.makespanNanos;
+    }
+
+    public Money getCompensation() {
+        return Money.ofCents(this.compensationCents);
+    }
+
+    public long getCompensationCents() {
+        return this.compensationCents;
+    }
+
+    public int getLateJobs() {
+        return this.lateJobs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d jobs done in %s at total cost %s, %d of them late",
+                this.jobs.size(), TimeUtils.format(this.getMakespan()), this.getCompensation(), this.lateJobs);
+    }
+}
@@ -1,13 +1,20 @@
 package com.composite;
 
+import com.composite.common.Convergence;
 import com.composite.common.DurationRange;
+import com.composite.common.DurationRoot;
+import com.composite.common.RootFinder;
 import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.PaintersStream;
+import com.domain.logic.with.streams.Parallelism;
 import com.domain.logic.with.streams.WorkStream;
+import com.metrics.Histogram;
+import com.metrics.MetricsRegistry;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.stream.Stream;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * All painters should finish the work at the same time
@@ -18,6 +25,50 @@ import java.util.Optional;
  * To improve readability, classes must return customized objects from their methods
  */
 public class EqualTimeScheduler implements PaintingScheduler {
+    private final Parallelism parallelism;
+    private final MetricsRegistry metrics;
+    private final RootFinder finder;
+    private final Convergence convergence;
+    private final Histogram iterations;
+
+    public EqualTimeScheduler() {
+        this(Parallelism.sequential());
+    }
+
+    public EqualTimeScheduler(Parallelism parallelism) {
+        this(parallelism, MetricsRegistry.none());
+    }
+
+    /**
+     * Records the iterations of every search for the total time, by the root finder searching
+     * @param parallelism
+     * @param metrics
+     */
+    public EqualTimeScheduler(Parallelism parallelism, MetricsRegistry metrics) {
+        this(parallelism, metrics, RootFinder.bisection(), Convergence.within(Duration.ofMillis(1)));
+    }
+
+    private EqualTimeScheduler(Parallelism parallelism, MetricsRegistry metrics,
+                               RootFinder finder, Convergence convergence) {
+        this.parallelism = parallelism;
+        this.metrics = metrics;
+        this.finder = finder;
+        this.convergence = convergence;
+        this.iterations = metrics.histogram("root_finding_iterations", finder.toString());
+    }
+
+    /**
+     * Same scheduler, searching for the total time with the finder until it converges
+     * Quotes needing minutes only can stop much earlier than the default bisection down to a millisecond
+     * Iterations of every search are only kept by a recording MetricsRegistry, given to the constructor
+     * @param finder
+     * @param convergence
+     * @return
+     */
+    public EqualTimeScheduler solvingWith(RootFinder finder, Convergence convergence) {
+        return new EqualTimeScheduler(this.parallelism, this.metrics, finder, convergence);
+    }
+
     @Override
     public WorkStream schedule(List<Painter> painters, double sqMeters) {
         return this.getUpperDuration(painters, sqMeters)
@@ -25,8 +76,24 @@ public class EqualTimeScheduler implements PaintingScheduler {
                 .orElse(WorkAssignment.stream(Stream.empty()));
     }
 
+    /**
+     * Envelopes of the painters are kept between changes of the crew
+     * @param painters
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public SchedulingSession open(List<Painter> painters, double sqMeters) {
+        return new EqualTimeSession(this, painters, sqMeters);
+    }
+
+    Optional<Duration> totalTime(List<Painter> painters, double sqMeters) {
+        return this.getUpperDuration(painters, sqMeters)
+                .map(upper -> this.totalTime(painters, sqMeters, upper));
+    }
+
     private Optional<Duration> getUpperDuration(List<Painter> painters, double sqMeters) {
-        return Painter.stream(painters).tomesToPaint(sqMeters).min();
+        return this.painters(painters).timesForSqMeters(sqMeters).min();
 //                .map(painter -> painter.estimateTimeToPaint(sqMeters))
 //                .min(Duration::compareTo);
     }
@@ -38,14 +105,28 @@ public class EqualTimeScheduler implements PaintingScheduler {
     }
 
     private WorkStream scheduleNonEmpty(List<Painter> painters, Duration totalTime) {
-        return Painter.stream(painters).assign(totalTime);
+        return this.painters(painters).assign(totalTime);
     }
 
+    /**
+     * When all painters know their envelopes, the crew's envelope is inverted in a single sweep
+     * Otherwise the total time is searched for by the root finder, bisection unless told otherwise
+     * @param painters
+     * @param sqMeters
+     * @param upper
+     * @return
+     */
     private Duration totalTime(List<Painter> painters, double sqMeters, Duration upper) {
-        return DurationRange.zeroTo(upper)
-                .bisect(time -> this.totalSqMeters(painters, time))
-                .convergeTo(sqMeters, Duration.ofMillis(1))
-                .middle();
+        return SqMetersEnvelope.of(painters, upper.plusSeconds(1))
+                .flatMap(envelope -> envelope.timeFor(sqMeters))
+                .orElseGet(() -> this.findTotalTime(painters, sqMeters, upper));
+    }
+
+    private Duration findTotalTime(List<Painter> painters, double sqMeters, Duration upper) {
+        DurationRoot root = DurationRange.zeroTo(upper)
+                .findRoot(time -> this.totalSqMeters(painters, time), sqMeters, this.finder, this.convergence);
+        this.iterations.record(root.getIterations());
+        return root.getTime();
 //        return totalTime(painters, sqMeters, upper, Duration.ZERO);
     }
 
@@ -65,8 +146,12 @@ public class EqualTimeScheduler implements PaintingScheduler {
 //    }
 
     private double totalSqMeters(List<Painter> painters, Duration time) {
-        return Painter.stream(painters).estimateSqMeters(time);
+        return this.painters(painters).estimateSqMeters(time);
 //                .mapToDouble(painter -> painter.estimateSqMeters(time))
 //                .sum();
     }
+
+    private PaintersStream painters(List<Painter> painters) {
+        return Painter.stream(painters, this.parallelism);
+    }
 }
@@ -0,0 +1,175 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the envelope of every painter and the envelope of the whole crew, all of them up to the same horizon
+ * The horizon follows the time the crew needs, twice that time is long enough and keeps envelopes short
+ * A painter joining is added to the crew envelope, a painter leaving is taken out of it, no other painter is estimated again
+ * Envelopes are estimated up to a new horizon only when the crew needs longer than it, or less than a quarter of it
+ * Taking envelopes out leaves rounding behind, so the crew envelope is merged anew once as many painters left as there are
+ * Painters without an envelope make the session search for the time, the same way the scheduler does
+ */
+class EqualTimeSession implements SchedulingSession {
+    private final EqualTimeScheduler scheduler;
+    private final double sqMeters;
+    private final Map<Painter, Member> members = new LinkedHashMap<>();
+    private int paintersWithoutEnvelope;
+    private Duration horizon;
+    private Optional<SqMetersEnvelope> crewEnvelope = Optional.empty();
+    private int leftSinceMerge;
+    private Optional<Duration> totalTime;
+
+    EqualTimeSession(EqualTimeScheduler scheduler, List<Painter> painters, double sqMeters) {
+        this.scheduler = scheduler;
+        this.sqMeters = sqMeters;
+        painters.forEach(this::join);
+    }
+
+    @Override
+    public boolean join(Painter painter) {
+        if (this.members.containsKey(painter)) {
+            return false;
+        }
+        Duration timeAlone = painter.timeForSqMeters(this.sqMeters)
+                .orElseGet(() -> painter.estimateTimeToPaint(this.sqMeters));
+        if (this.horizon == null) {
+            this.horizon = timeAlone.plusSeconds(1);
+        }
+        Member member = new Member(timeAlone, painter.estimateEnvelope(this.horizon));
+        this.members.put(painter, member);
+
+        if (!member.envelope.isPresent()) {
+            this.paintersWithoutEnvelope++;
+            this.crewEnvelope = Optional.empty();
+        } else if (this.paintersWithoutEnvelope == 0) {
+            this.crewEnvelope = Optional.of(this.crewEnvelope
+                    .map(crew -> SqMetersEnvelope.sum(Arrays.asList(crew, member.envelope.get())))
+                    .orElse(member.envelope.get()));
+        }
+        this.totalTime = null;
+        return true;
+    }
+
+    @Override
+    public boolean leave(Painter painter) {
+        Member member = this.members.remove(painter);
+        if (member == null) {
+            return false;
+        }
+
+        if (this.members.isEmpty()) {
+            this.paintersWithoutEnvelope = 0;
+            this.horizon = null;
+            this.crewEnvelope = Optional.empty();
+        } else if (!member.envelope.isPresent()) {
+            if (--this.paintersWithoutEnvelope == 0) {
+                this.mergeUpTo(this.horizon);
+            }
+        } else if (this.crewEnvelope.isPresent() && ++this.leftSinceMerge <= this.members.size()) {
+            this.crewEnvelope = Optional.of(SqMetersEnvelope.sum(
+                    Arrays.asList(this.crewEnvelope.get(), member.envelope.get().negate())));
+        } else if (this.paintersWithoutEnvelope == 0) {
+            this.mergeUpTo(this.horizon);
+        }
+        this.totalTime = null;
+        return true;
+    }
+
+    /**
+     * Estimates envelopes again when the horizon moves, and merges them into the crew envelope
+     */
+    private void mergeUpTo(Duration horizon) {
+        if (!horizon.equals(this.horizon)) {
+            this.horizon = horizon;
+            this.members.replaceAll((painter, member) -> member.upTo(painter, horizon));
+        }
+        List<SqMetersEnvelope> envelopes = this.members.values().stream()
+                .map(member -> member.envelope)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+        this.paintersWithoutEnvelope = this.members.size() - envelopes.size();
+        this.crewEnvelope = this.paintersWithoutEnvelope == 0
+                ? Optional.of(SqMetersEnvelope.sum(envelopes))
+                : Optional.empty();
+        this.leftSinceMerge = 0;
+    }
+
+    private Duration getFastestTimeAlone() {
+        return this.members.values().stream()
+                .map(member -> member.timeAlone)
+                .min(Duration::compareTo)
+                .get();
+    }
+
+    /**
+     * The crew never needs longer than its fastest painter alone
+     */
+    private Optional<Duration> getTotalTime() {
+        if (this.totalTime == null) {
+            Optional<Duration> fromEnvelope = this.crewEnvelope.flatMap(envelope -> envelope.timeFor(this.sqMeters));
+            if (!fromEnvelope.isPresent() && this.crewEnvelope.isPresent()) {
+                this.mergeUpTo(this.getFastestTimeAlone().plusSeconds(1));
+                fromEnvelope = this.crewEnvelope.flatMap(envelope -> envelope.timeFor(this.sqMeters));
+            }
+            fromEnvelope.map(time -> time.multipliedBy(2).plusSeconds(1))
+                    .filter(horizon -> horizon.multipliedBy(2).compareTo(this.horizon) < 0)
+                    .ifPresent(this::mergeUpTo);
+            this.totalTime = fromEnvelope.isPresent()
+                    ? fromEnvelope
+                    : this.scheduler.totalTime(this.getPainters(), this.sqMeters);
+        }
+        return this.totalTime;
+    }
+
+    @Override
+    public List<Painter> getPainters() {
+        return new ArrayList<>(this.members.keySet());
+    }
+
+    @Override
+    public WorkStream schedule() {
+        return WorkAssignment.stream(this.getTotalTime()
+                .map(time -> this.members.keySet().stream()
+                        .map(painter -> painter.assign(painter.estimateSqMeters(time)))
+                        .collect(Collectors.toList())
+                        .stream())
+                .orElse(Stream.empty()));
+    }
+
+    @Override
+    public Optional<WorkAssignment> assignmentOf(Painter painter) {
+        return this.members.containsKey(painter)
+                ? this.getTotalTime().map(time -> painter.assign(painter.estimateSqMeters(time)))
+                : Optional.empty();
+    }
+
+    /**
+     * What the session remembers of a painter in the crew
+     */
+    private static class Member {
+        private final Duration timeAlone;
+        private final Optional<SqMetersEnvelope> envelope;
+
+        Member(Duration timeAlone, Optional<SqMetersEnvelope> envelope) {
+            this.timeAlone = timeAlone;
+            this.envelope = envelope;
+        }
+
+        Member upTo(Painter painter, Duration horizon) {
+            return new Member(this.timeAlone, painter.estimateEnvelope(horizon));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How a painter remembers its estimates - how many of them, for how long, and how close two jobs must be to share one
+ * Areas are kept exactly unless rounded to a number of decimals, times are rounded down to whole multiples of a resolution
+ * An estimate is made for the rounded job, so callers asking for jobs that round alike get the same answer
+ * Painters measure time in whole seconds, so the default resolution of a second changes no estimate
+ * Rounding areas changes estimates of areas with more decimals, composites hand such areas down to their painters
+ */
+public class EstimateCaching {
+    private static final long DEFAULT_SECONDS_RESOLUTION = 1;
+
+    private final boolean enabled;
+    private final Optional<Long> maximumSize;
+    private final Optional<Duration> expireAfterAccess;
+    private final Optional<Integer> sqMetersDecimals;
+    private final double sqMetersScale;
+    private final long secondsResolution;
+
+    private EstimateCaching(boolean enabled, Optional<Long> maximumSize, Optional<Duration> expireAfterAccess,
+                            Optional<Integer> sqMetersDecimals, long secondsResolution) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.expireAfterAccess = expireAfterAccess;
+        this.sqMetersDecimals = sqMetersDecimals;
+        this.sqMetersScale = sqMetersDecimals.map(decimals -> Math.pow(10, decimals)).orElse(1.0);
+        this.secondsResolution = secondsResolution;
+    }
+
+    /**
+     * Painters are left as they are
+     * @return
+     */
+    public static EstimateCaching none() {
+        return new EstimateCaching(false, Optional.empty(), Optional.empty(),
+                Optional.empty(), DEFAULT_SECONDS_RESOLUTION);
+    }
+
+    /**
+     * Keeps at most maximumSize estimates of each kind, evicting those not used recently
+     * @param maximumSize
+     * @return
+     */
+    public static EstimateCaching bySize(long maximumSize) {
+        return none().andBySize(maximumSize);
+    }
+
+    /**
+     * Forgets estimates not used for the given time
+     * @param expireAfterAccess
+     * @return
+     */
+    public static EstimateCaching byTime(Duration expireAfterAccess) {
+        return none().andByTime(expireAfterAccess);
+    }
+
+    public EstimateCaching andBySize(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        return new EstimateCaching(true, Optional.of(maximumSize), this.expireAfterAccess,
+                this.sqMetersDecimals, this.secondsResolution);
+    }
+
+    public EstimateCaching andByTime(Duration expireAfterAccess) {
+        if (expireAfterAccess.isNegative() || expireAfterAccess.isZero()) {
+            throw new IllegalArgumentException("Expiry must be positive: " + expireAfterAccess);
+        }
+        return new EstimateCaching(true, this.maximumSize, Optional.of(expireAfterAccess),
+                this.sqMetersDecimals, this.secondsResolution);
+    }
+
+    /**
+     * Areas given with no more decimals than kept are still estimated exactly as asked
+     * @param sqMetersDecimals
+     * @return
+     */
+    public EstimateCaching withSqMetersDecimals(int sqMetersDecimals) {
+        if (sqMetersDecimals < 0 || sqMetersDecimals > 9) {
+            throw new IllegalArgumentException("Decimals out of range: " + sqMetersDecimals);
+        }
+        return new EstimateCaching(this.enabled, this.maximumSize, this.expireAfterAccess,
+                Optional.of(sqMetersDecimals), this.secondsResolution);
+    }
+
+    public EstimateCaching withTimeResolution(Duration resolution) {
+        if (resolution.getSeconds() <= 0 || resolution.getNano() != 0) {
+            throw new IllegalArgumentException("Resolution must be whole seconds: " + resolution);
+        }
+        return new EstimateCaching(this.enabled, this.maximumSize, this.expireAfterAccess,
+                this.sqMetersDecimals, resolution.getSeconds());
+    }
+
+    public Painter decorate(Painter painter) {
+        return this.enabled ? CachingPainter.of(painter, this) : painter;
+    }
+
+    <V> Cache<Long, V> newCache() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+        this.maximumSize.ifPresent(builder::maximumSize);
+        this.expireAfterAccess.ifPresent(expiry -> builder.expireAfterAccess(expiry.toNanos(), TimeUnit.NANOSECONDS));
+        return builder.build();
+    }
+
+    /**
+     * Areas too large to round into a long are not cached
+     * @param sqMeters
+     * @return
+     */
+    boolean isCacheable(double sqMeters) {
+        return !this.sqMetersDecimals.isPresent() || Math.abs(sqMeters * this.sqMetersScale) < Long.MAX_VALUE;
+    }
+
+    /**
+     * Exact areas are keyed by their bits
+     * @param sqMeters
+     * @return
+     */
+    long sqMetersKey(double sqMeters) {
+        return this.sqMetersDecimals.isPresent()
+                ? Math.round(sqMeters * this.sqMetersScale)
+                : Double.doubleToLongBits(sqMeters);
+    }
+
+    double sqMetersOf(long key) {
+        return this.sqMetersDecimals.isPresent()
+                ? key / this.sqMetersScale
+                : Double.longBitsToDouble(key);
+    }
+
+    long timeKey(Duration time) {
+        return Math.floorDiv(time.getSeconds(), this.secondsResolution);
+    }
+
+    Duration timeOf(long key) {
+        return Duration.ofSeconds(key * this.secondsResolution);
+    }
+
+    @Override
+    public String toString() {
+        return this.enabled
+                ? String.format("caching%s%s, areas %s, times to %d s",
+                        this.maximumSize.map(size -> " up to " + size).orElse(""),
+                        this.expireAfterAccess.map(expiry -> " for " + expiry).orElse(""),
+                        this.sqMetersDecimals.map(decimals -> "to " + decimals + " decimals").orElse("exactly"),
+                        this.secondsResolution)
+                : "no caching";
+    }
+}
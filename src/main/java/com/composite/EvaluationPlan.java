@@ -0,0 +1,147 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Composites nested into an equal time composite, evaluated as a single crew of the painters at their leaves
+ * All painters of an equal time crew stop at the same time, so do all painters of a nested equal time crew
+ * The total time is searched for once over all the leaves, instead of once more for every nested share
+ * Assignments keep the shape of the tree, a nested composite is assigned the area of its leaves together
+ * Crews with another scheduler stay leaves, constant velocity depends on the area handed down to every level
+ */
+class EvaluationPlan {
+    private final EqualTimeScheduler scheduler;
+    private final Parallelism parallelism;
+    private final List<Painter> leaves;
+    private final List<Member> members;
+
+    private EvaluationPlan(EqualTimeScheduler scheduler, Parallelism parallelism, List<Painter> leaves, List<Member> members) {
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+        this.leaves = leaves;
+        this.members = members;
+    }
+
+    /**
+     * Empty when the composite does not schedule with equal time, or none of its painters is a nested crew to flatten
+     * @param scheduler
+     * @param parallelism
+     * @param subordinatePainters
+     * @return
+     */
+    static Optional<EvaluationPlan> of(PaintingScheduler scheduler, Parallelism parallelism, List<Painter> subordinatePainters) {
+        if (!(scheduler instanceof EqualTimeScheduler) || subordinatePainters.stream().noneMatch(EvaluationPlan::isNested)) {
+            return Optional.empty();
+        }
+        List<Painter> leaves = new ArrayList<>();
+        List<Member> members = members(subordinatePainters, leaves);
+        return Optional.of(new EvaluationPlan((EqualTimeScheduler) scheduler, parallelism, leaves, members));
+    }
+
+    private static boolean isNested(Painter painter) {
+        return painter instanceof CompositePainter
+                && ((CompositePainter) painter).getScheduler() instanceof EqualTimeScheduler;
+    }
+
+    /**
+     * Leaves are collected depth first, so the leaves of every nested crew follow each other
+     */
+    private static List<Member> members(List<Painter> painters, List<Painter> leaves) {
+        List<Member> members = new ArrayList<>(painters.size());
+        for (Painter painter : painters) {
+            int from = leaves.size();
+            List<Member> nested = isNested(painter)
+                    ? members(((CompositePainter) painter).getSubordinatePainters(), leaves)
+                    : Collections.emptyList();
+            if (nested.isEmpty()) {
+                leaves.add(painter);
+            }
+            members.add(new Member(painter, from, leaves.size(), nested));
+        }
+        return members;
+    }
+
+    /**
+     * Assignments of the composite's own painters, nested crews answer from the areas of their leaves
+     * @param sqMeters
+     * @return
+     */
+    WorkStream schedule(double sqMeters) {
+        return this.scheduler.totalTime(this.leaves, sqMeters)
+                .map(this::assign)
+                .orElseGet(() -> WorkAssignment.stream(Stream.empty()));
+    }
+
+    double estimateSqMeters(Duration time) {
+        return Painter.stream(this.leaves, this.parallelism).estimateSqMeters(time);
+    }
+
+    Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        return SqMetersEnvelope.of(this.leaves, horizon);
+    }
+
+    private WorkStream assign(Duration time) {
+        double[] sqMeters = this.sqMeters(time);
+        return WorkAssignment.stream(this.members.stream()
+                .map(member -> member.isLeaf()
+                        ? member.painter.assign(sqMeters[member.from])
+                        : new NestedAssignment(member.painter, member.sqMeters(sqMeters),
+                                this.assignLeaves(sqMeters, member.from, member.to).collect(Collectors.toList()))));
+    }
+
+    /**
+     * A single loop over the leaves, every leaf is asked once for the area it paints in the total time
+     */
+    private double[] sqMeters(Duration time) {
+        double[] sqMeters = new double[this.leaves.size()];
+        this.parallelism.range(sqMeters.length)
+                .forEach(index -> sqMeters[index] = this.leaves.get(index).estimateSqMeters(time));
+        return sqMeters;
+    }
+
+    private WorkStream assignLeaves(double[] sqMeters, int from, int to) {
+        return WorkAssignment.stream(IntStream.range(from, to)
+                .mapToObj(index -> this.leaves.get(index).assign(sqMeters[index])));
+    }
+
+    /**
+     * A painter of a composite in the tree, nested crews know the range of their leaves
+     */
+    private static class Member {
+        private final Painter painter;
+        private final int from;
+        private final int to;
+        private final List<Member> members;
+
+        Member(Painter painter, int from, int to, List<Member> members) {
+            this.painter = painter;
+            this.from = from;
+            this.to = to;
+            this.members = members;
+        }
+
+        boolean isLeaf() {
+            return this.members.isEmpty();
+        }
+
+        /**
+         * Added up level by level, in the same order the nested composite adds up the areas of its painters
+         */
+        double sqMeters(double[] sqMeters) {
+            return this.isLeaf()
+                    ? sqMeters[this.from]
+                    : this.members.stream().mapToDouble(member -> member.sqMeters(sqMeters)).sum();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.composite;
+
+import com.composite.common.TimeUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * An area to paint, due by a deadline counted from the start of dispatch
+ * Jobs without a deadline are never late
+ */
+public class Job {
+    private final double sqMeters;
+    private final Optional<Duration> deadline;
+
+    private Job(double sqMeters, Optional<Duration> deadline) {
+        if (!(sqMeters > 0)) {
+            throw new IllegalArgumentException("Area must be positive: " + sqMeters);
+        }
+        this.sqMeters = sqMeters;
+        this.deadline = deadline;
+    }
+
+    public static Job of(double sqMeters) {
+        return new Job(sqMeters, Optional.empty());
+    }
+
+    public static Job of(double sqMeters, Duration deadline) {
+        if (deadline.isNegative()) {
+            throw new IllegalArgumentException("Deadline must not be negative: " + deadline);
+        }
+        return new Job(sqMeters, Optional.of(deadline));
+    }
+
+    public double getSqMeters() {
+        return this.sqMeters;
+    }
+
+    public Optional<Duration> getDeadline() {
+        return this.deadline;
+    }
+
+    long getDeadlineNanos() {
+        return this.deadline.map(Duration::toNanos).orElse(Long.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.2f sq. meters%s", this.sqMeters,
+                this.deadline.map(deadline -> " due by " + TimeUtils.format(deadline)).orElse(""));
+    }
+}
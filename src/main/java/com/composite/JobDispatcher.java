@@ -0,0 +1,231 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Dispatches many jobs to a shared pool of painters, each painter works on one job at a time
+ * Painters wait in a priority queue by the time they become available, jobs are taken one by one in some order
+ * Every job is quoted by the few painters available first, and goes to the best ranked of them
+ * A job can be shared by a crew of the best ranked candidates, the crew starts when its last painter is available
+ * Searching tries several orders of the jobs, in parallel when told so, and keeps the best plan
+ */
+public class JobDispatcher {
+    private static final List<Comparator<Job>> SEARCHED_ORDERS = Arrays.asList(
+            Comparator.comparingLong(Job::getDeadlineNanos)
+                    .thenComparing(Comparator.comparingDouble(Job::getSqMeters).reversed()),
+            Comparator.comparingDouble(Job::getSqMeters).reversed(),
+            Comparator.comparingDouble(Job::getSqMeters),
+            (first, second) -> 0);
+
+    private final DispatchObjective objective;
+    private final int candidates;
+    private final int crewSize;
+    private final PaintingScheduler crewScheduler;
+    private final List<Comparator<Job>> orders;
+    private final Parallelism parallelism;
+
+    private JobDispatcher(DispatchObjective objective, int candidates, int crewSize, PaintingScheduler crewScheduler,
+                          List<Comparator<Job>> orders, Parallelism parallelism) {
+        this.objective = objective;
+        this.candidates = candidates;
+        this.crewSize = crewSize;
+        this.crewScheduler = crewScheduler;
+        this.orders = orders;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Jobs are taken by their deadline, larger jobs first, each of them is quoted by the four painters available first
+     * @param objective
+     * @return
+     */
+    public static JobDispatcher of(DispatchObjective objective) {
+        return new JobDispatcher(objective, 4, 1, new EqualTimeScheduler(),
+                SEARCHED_ORDERS.subList(0, 1), Parallelism.sequential());
+    }
+
+    public static JobDispatcher minimizingMakespan() {
+        return of(DispatchObjective.makespan());
+    }
+
+    public static JobDispatcher minimizingCost() {
+        return of(DispatchObjective.cost());
+    }
+
+    /**
+     * More candidates find better painters for every job, each of them is asked for a quote of every job
+     * @param candidates
+     * @return
+     */
+    public JobDispatcher quotedBy(int candidates) {
+        if (candidates < this.crewSize) {
+            throw new IllegalArgumentException("Candidates must be at least as many as the crew: " + candidates);
+        }
+        return new JobDispatcher(this.objective, candidates, this.crewSize, this.crewScheduler, this.orders, this.parallelism);
+    }
+
+    /**
+     * Every job is shared by a crew of crewSize painters, scheduled by the crew scheduler
+     * @param crewScheduler
+     * @param crewSize
+     * @return
+     */
+    public JobDispatcher sharingWith(PaintingScheduler crewScheduler, int crewSize) {
+        if (crewSize < 1 || crewSize > this.candidates) {
+            throw new IllegalArgumentException("Crew must have between one and " + this.candidates + " painters: " + crewSize);
+        }
+        return new JobDispatcher(this.objective, this.candidates, crewSize, crewScheduler, this.orders, this.parallelism);
+    }
+
+    /**
+     * Dispatches the jobs by their deadline, by their size both ways and in the order given, and keeps the best plan
+     * Plans ranked equally are decided by that order, so the result does not depend on the parallelism
+     * @param parallelism
+     * @return
+     */
+    public JobDispatcher searching(Parallelism parallelism) {
+        return new JobDispatcher(this.objective, this.candidates, this.crewSize, this.crewScheduler, SEARCHED_ORDERS, parallelism);
+    }
+
+    /**
+     * Painters which are not available are left out, available ones start at the start of dispatch
+     * @param painters
+     * @param jobs
+     * @return
+     */
+    public DispatchPlan dispatch(List<Painter> painters, List<Job> jobs) {
+        List<Painter> available = painters.stream()
+                .flatMap(painter -> painter.available().asOptional().map(Stream::of).orElseGet(Stream::empty))
+                .collect(Collectors.toList());
+        if (available.isEmpty() && !jobs.isEmpty()) {
+            throw new NoSuchElementException("No painter is available");
+        }
+        return this.parallelism.stream(this.orders)
+                .map(order -> new Dispatch(this, available, jobs).run(order))
+                .reduce((first, second) -> this.objective.plans().compare(first, second) <= 0 ? first : second)
+                .get();
+    }
+
+    /**
+     * A painter of the pool, and the time it becomes available
+     */
+    private static class Slot {
+        private final Painter painter;
+        private final int index;
+        private long availableNanos;
+        private Quote quote;
+        private double rank;
+
+        Slot(Painter painter, int index) {
+            this.painter = painter;
+            this.index = index;
+        }
+    }
+
+    /**
+     * A single pass over the jobs in one order
+     */
+    private static class Dispatch {
+        private static final Comparator<Slot> BY_AVAILABILITY = Comparator.<Slot>comparingLong(slot -> slot.availableNanos)
+                .thenComparingInt(slot -> slot.index);
+        private static final Comparator<Slot> BY_RANK = Comparator.<Slot>comparingDouble(slot -> slot.rank)
+                .thenComparing(BY_AVAILABILITY);
+
+        private final JobDispatcher dispatcher;
+        private final List<Job> jobs;
+        private final PriorityQueue<Slot> pool;
+        private final List<Slot> candidates;
+        private final List<List<WorkAssignment>> assignments;
+        private final long[] startNanos;
+        private final long[] finishNanos;
+
+        Dispatch(JobDispatcher dispatcher, List<Painter> painters, List<Job> jobs) {
+            this.dispatcher = dispatcher;
+            this.jobs = jobs;
+            this.pool = new PriorityQueue<>(Math.max(1, painters.size()), BY_AVAILABILITY);
+            for (int index = 0; index < painters.size(); index++) {
+                this.pool.add(new Slot(painters.get(index), index));
+            }
+            this.candidates = new ArrayList<>(dispatcher.candidates);
+            this.assignments = new ArrayList<>(Collections.nCopies(jobs.size(), Collections.emptyList()));
+            this.startNanos = new long[jobs.size()];
+            this.finishNanos = new long[jobs.size()];
+        }
+
+        DispatchPlan run(Comparator<Job> order) {
+            IntStream.range(0, this.jobs.size())
+                    .boxed()
+                    .sorted(Comparator.comparing(this.jobs::get, order))
+                    .forEach(this::dispatch);
+            return new DispatchPlan(this.jobs, this.assignments, this.startNanos, this.finishNanos);
+        }
+
+        private void dispatch(int job) {
+            Job next = this.jobs.get(job);
+            this.candidates.clear();
+            while (this.candidates.size() < this.dispatcher.candidates && !this.pool.isEmpty()) {
+                Slot candidate = this.pool.poll();
+                candidate.quote = candidate.painter.quote(next.getSqMeters());
+                long finishNanos = candidate.availableNanos + candidate.quote.getNanosToPaint();
+                candidate.rank = this.dispatcher.objective.rank(finishNanos, candidate.quote.getCompensationCents(),
+                        finishNanos > next.getDeadlineNanos());
+                this.candidates.add(candidate);
+            }
+            this.candidates.sort(BY_RANK);
+
+            List<Slot> crew = this.candidates.subList(0, Math.min(this.dispatcher.crewSize, this.candidates.size()));
+            if (crew.size() == 1 || !this.share(job, next, crew)) {
+                this.assign(job, next, crew.get(0));
+            }
+            this.pool.addAll(this.candidates);
+        }
+
+        private void assign(int job, Job next, Slot painter) {
+            this.startNanos[job] = painter.availableNanos;
+            painter.availableNanos += painter.quote.getNanosToPaint();
+            this.finishNanos[job] = painter.availableNanos;
+            this.assignments.set(job, Collections.singletonList(new QuotedAssignment(painter.painter, next.getSqMeters(),
+                    painter.quote.getNanosToPaint(), painter.quote.getCompensationCents())));
+        }
+
+        /**
+         * Painters of the crew left without an area are not kept waiting for the others
+         * @return false when the crew scheduler assigns nobody
+         */
+        private boolean share(int job, Job next, List<Slot> crew) {
+            ScheduleResult result = this.dispatcher.crewScheduler.evaluate(
+                    crew.stream().map(slot -> slot.painter).collect(Collectors.toList()), next.getSqMeters());
+            if (result.isEmpty()) {
+                return false;
+            }
+            long startNanos = crew.stream().mapToLong(slot -> slot.availableNanos).max().getAsLong();
+            List<WorkAssignment> assignments = new ArrayList<>(result.getAssignments().size());
+            for (int index = 0; index < result.getAssignments().size(); index++) {
+                WorkAssignment assignment = result.getAssignments().get(index);
+                Quote quote = result.getQuotes().get(index);
+                crew.stream()
+                        .filter(slot -> slot.painter == assignment.getPainter() && assignment.getSqMeters() > 0)
+                        .findFirst()
+                        .ifPresent(slot -> slot.availableNanos = startNanos + quote.getNanosToPaint());
+                assignments.add(new QuotedAssignment(assignment.getPainter(), assignment.getSqMeters(),
+                        quote.getNanosToPaint(), quote.getCompensationCents()));
+            }
+            this.startNanos[job] = startNanos;
+            this.finishNanos[job] = startNanos + result.getQuote().getNanosToPaint();
+            this.assignments.set(job, assignments);
+            return true;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.time.Duration;
 public class MoneyRate {
     private Money intervalAmount;
     private Duration interval;
+    private long intervalCents;
+    private long intervalSeconds;
 
     public Duration getInterval() {
         return interval;
@@ -19,18 +21,49 @@ public class MoneyRate {
     private MoneyRate(Money intervalAmount, Duration interval) {
         this.intervalAmount = intervalAmount;
         this.interval = interval;
+        this.intervalCents = intervalAmount.toCents();
+        this.intervalSeconds = interval.getSeconds();
     }
 
     public static MoneyRate hourly(Money amount) {
         return new MoneyRate(amount, Duration.ofHours(1));
     }
 
+    /**
+     * Exact cents per second before rounding, for bounding totals without calculating them
+     * @return
+     */
+    double getCentsPerSecond() {
+        return this.intervalCents / (double) this.intervalSeconds;
+    }
+
     private Money getTotalPerHour() {
         return this.getTotalFor(Duration.ofHours(1));
     }
 
     public Money getTotalFor(Duration interval) {
-        return this.intervalAmount.scale(interval.getSeconds(), this.getSeconds());
+        return Money.ofCents(this.getTotalCentsFor(interval.getSeconds()));
+    }
+
+    /**
+     * Same rounding as Money.scale - half up, to whole cents - calculated on longs
+     * Falls back to Money when the product of cents and seconds would overflow
+     * @param seconds
+     * @return
+     */
+    public long getTotalCentsFor(long seconds) {
+        long product;
+        try {
+            product = Math.multiplyExact(this.intervalCents, seconds);
+        } catch (ArithmeticException overflow) {
+            return this.intervalAmount.scale(seconds, this.intervalSeconds).toCents();
+        }
+
+        long quotient = product / this.intervalSeconds;
+        long remainder = Math.abs(product % this.intervalSeconds);
+        return remainder >= Math.abs(this.intervalSeconds) - remainder
+                ? quotient + (Long.signum(product) * Long.signum(this.intervalSeconds) < 0 ? -1 : 1)
+                : quotient;
     }
 
     @Override
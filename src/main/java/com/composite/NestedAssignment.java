@@ -0,0 +1,51 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Assignment of a nested crew in a flattened composite, estimated from the assignments of its leaves
+ * The crew is not scheduled again, its leaves already got their areas from the total time of the whole tree
+ */
+class NestedAssignment extends WorkAssignment {
+    private final List<WorkAssignment> leaves;
+
+    NestedAssignment(Painter painter, double sqMeters, List<WorkAssignment> leaves) {
+        super(painter, sqMeters);
+        this.leaves = leaves;
+    }
+
+    @Override
+    public Money estimateCompensation() {
+        return Money.ofCents(this.estimateCompensationCents());
+    }
+
+    @Override
+    public Duration estimateTimeToPaint() {
+        return Duration.ofNanos(this.estimateNanosToPaint());
+    }
+
+    @Override
+    public long estimateCompensationCents() {
+        return this.leaves().totalCompensationCents();
+    }
+
+    @Override
+    public long estimateNanosToPaint() {
+        return this.leaves().maxNanosToPaint();
+    }
+
+    @Override
+    public Quote quote() {
+        Quote quote = this.leaves().evaluate().getQuote();
+        return Quote.of(this.getSqMeters(), quote.getNanosToPaint(), quote.getCompensationCents());
+    }
+
+    private WorkStream leaves() {
+        return WorkAssignment.stream(this.leaves.stream());
+    }
+}
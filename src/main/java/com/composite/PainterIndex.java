@@ -0,0 +1,253 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Segment tree over painters with known formulas, sorted by the seconds they need per square meter
+ * Every node keeps lower bounds of the time and of the cost of any of its painters, for any area
+ * A query descends only into nodes which may still hold a better painter than the best one found so far
+ * Leaves are estimated by the painters themselves, so answers are exact, bounds only decide where to look
+ * Time is at least area times seconds per square meter, minus a second of rounding, plus cleaning
+ * Cost is at least that time at the painter's rate, minus the rounding to whole cents
+ */
+class PainterIndex {
+    private static final double SECONDS_PER_HOUR = 3600;
+    private static final double SLACK = 1e-9;
+
+    private final int leaves;
+    private final Painter[] painters;
+    private final int[] positions;
+    private final double[] minSecondsPerSqMeter;
+    private final double[] minCleaningSeconds;
+    private final double[] minCentsPerSqMeter;
+    private final double[] minCleaningCents;
+    private final double[] maxCentsPerSecond;
+    private final int[] minPosition;
+    private final double maxPaintingSecondsPerSqMeter;
+    private final double maxRefillsPerSqMeter;
+
+    private PainterIndex(List<Entry> entries) {
+        entries.sort(Comparator.comparingDouble((Entry entry) -> entry.secondsPerSqMeter)
+                .thenComparingInt(entry -> entry.position));
+        int leaves = 1;
+        while (leaves < entries.size()) {
+            leaves *= 2;
+        }
+        this.leaves = leaves;
+        this.painters = new Painter[leaves];
+        this.positions = new int[leaves];
+        this.minSecondsPerSqMeter = filled(2 * leaves, Double.POSITIVE_INFINITY);
+        this.minCleaningSeconds = filled(2 * leaves, Double.POSITIVE_INFINITY);
+        this.minCentsPerSqMeter = filled(2 * leaves, Double.POSITIVE_INFINITY);
+        this.minCleaningCents = filled(2 * leaves, Double.POSITIVE_INFINITY);
+        this.maxCentsPerSecond = new double[2 * leaves];
+        this.minPosition = new int[2 * leaves];
+        Arrays.fill(this.minPosition, Integer.MAX_VALUE);
+
+        double maxPaintingSecondsPerSqMeter = 0;
+        double maxRefillsPerSqMeter = 0;
+        for (int leaf = 0; leaf < entries.size(); leaf++) {
+            Entry entry = entries.get(leaf);
+            int node = leaves + leaf;
+            this.painters[leaf] = entry.painter;
+            this.positions[leaf] = entry.position;
+            this.minSecondsPerSqMeter[node] = entry.secondsPerSqMeter;
+            this.minCleaningSeconds[node] = entry.cleaningSeconds;
+            this.minCentsPerSqMeter[node] = entry.centsPerSecond * entry.secondsPerSqMeter;
+            this.minCleaningCents[node] = entry.centsPerSecond * entry.cleaningSeconds;
+            this.maxCentsPerSecond[node] = entry.centsPerSecond;
+            this.minPosition[node] = entry.position;
+            maxPaintingSecondsPerSqMeter = Math.max(maxPaintingSecondsPerSqMeter, entry.paintingSecondsPerSqMeter);
+            maxRefillsPerSqMeter = Math.max(maxRefillsPerSqMeter, entry.refillsPerSqMeter);
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            this.minSecondsPerSqMeter[node] = Math.min(this.minSecondsPerSqMeter[2 * node], this.minSecondsPerSqMeter[2 * node + 1]);
+            this.minCleaningSeconds[node] = Math.min(this.minCleaningSeconds[2 * node], this.minCleaningSeconds[2 * node + 1]);
+            this.minCentsPerSqMeter[node] = Math.min(this.minCentsPerSqMeter[2 * node], this.minCentsPerSqMeter[2 * node + 1]);
+            this.minCleaningCents[node] = Math.min(this.minCleaningCents[2 * node], this.minCleaningCents[2 * node + 1]);
+            this.maxCentsPerSecond[node] = Math.max(this.maxCentsPerSecond[2 * node], this.maxCentsPerSecond[2 * node + 1]);
+            this.minPosition[node] = Math.min(this.minPosition[2 * node], this.minPosition[2 * node + 1]);
+        }
+        this.maxPaintingSecondsPerSqMeter = maxPaintingSecondsPerSqMeter;
+        this.maxRefillsPerSqMeter = maxRefillsPerSqMeter;
+    }
+
+    /**
+     * Indexes the painters it knows the formulas of, and returns the positions of all the others
+     * Only ProportionalPainter and CompressionPainter themselves are indexed, subclasses may estimate differently
+     * @param painters
+     * @param unindexed
+     * @return
+     */
+    static PainterIndex of(List<Painter> painters, List<Integer> unindexed) {
+        List<Entry> entries = new ArrayList<>(painters.size());
+        for (int position = 0; position < painters.size(); position++) {
+            Entry entry = Entry.of(painters.get(position), position);
+            if (entry == null) {
+                unindexed.add(position);
+            } else {
+                entries.add(entry);
+            }
+        }
+        return new PainterIndex(entries);
+    }
+
+    /**
+     * Painters round their time to whole seconds in an int, the bounds hold only while it does not overflow
+     * @param sqMeters
+     * @return
+     */
+    boolean covers(double sqMeters) {
+        return sqMeters >= 0
+                && sqMeters * this.maxPaintingSecondsPerSqMeter < Integer.MAX_VALUE
+                && sqMeters * this.maxRefillsPerSqMeter < Integer.MAX_VALUE;
+    }
+
+    void search(double sqMeters, Best best) {
+        this.search(1, sqMeters, best);
+    }
+
+    private void search(int node, double sqMeters, Best best) {
+        if (this.minPosition[node] == Integer.MAX_VALUE || this.secondsBound(node, sqMeters) > best.limitSeconds()) {
+            return;
+        }
+        double bound = this.bound(node, sqMeters, best);
+        if (!best.mayImprove(bound, this.minPosition[node])) {
+            return;
+        }
+        if (node >= this.leaves) {
+            best.offer(this.painters[node - this.leaves], this.positions[node - this.leaves], sqMeters);
+            return;
+        }
+        int first = 2 * node;
+        int second = 2 * node + 1;
+        if (this.bound(second, sqMeters, best) < this.bound(first, sqMeters, best)) {
+            first = second;
+            second = 2 * node;
+        }
+        this.search(first, sqMeters, best);
+        this.search(second, sqMeters, best);
+    }
+
+    private double bound(int node, double sqMeters, Best best) {
+        return best.isByTime()
+                ? this.secondsBound(node, sqMeters) * TimeUnit.SECONDS.toNanos(1)
+                : this.centsBound(node, sqMeters);
+    }
+
+    private double secondsBound(int node, double sqMeters) {
+        return (sqMeters * this.minSecondsPerSqMeter[node] + this.minCleaningSeconds[node]) * (1 - SLACK) - 2;
+    }
+
+    private double centsBound(int node, double sqMeters) {
+        return (sqMeters * this.minCentsPerSqMeter[node] + this.minCleaningCents[node]) * (1 - SLACK)
+                - 2 * this.maxCentsPerSecond[node] - 1;
+    }
+
+    private static double[] filled(int length, double value) {
+        double[] values = new double[length];
+        Arrays.fill(values, value);
+        return values;
+    }
+
+    /**
+     * Formula of one painter, as its estimates use it
+     */
+    private static class Entry {
+        private final Painter painter;
+        private final int position;
+        private final double secondsPerSqMeter;
+        private final double paintingSecondsPerSqMeter;
+        private final double refillsPerSqMeter;
+        private final double cleaningSeconds;
+        private final double centsPerSecond;
+
+        private Entry(Painter painter, int position, double paintingSecondsPerSqMeter, double refillsPerSqMeter,
+                      double fillSeconds, double cleaningSeconds, double centsPerSecond) {
+            this.painter = painter;
+            this.position = position;
+            this.secondsPerSqMeter = paintingSecondsPerSqMeter + refillsPerSqMeter * fillSeconds;
+            this.paintingSecondsPerSqMeter = paintingSecondsPerSqMeter;
+            this.refillsPerSqMeter = refillsPerSqMeter;
+            this.cleaningSeconds = cleaningSeconds;
+            this.centsPerSecond = centsPerSecond;
+        }
+
+        /**
+         * Null when the painter is not indexed, the bounds need positive speeds and rates which are not negative
+         */
+        static Entry of(Painter painter, int position) {
+            Entry entry = null;
+            if (painter.getClass() == ProportionalPainter.class) {
+                ProportionalPainter proportional = (ProportionalPainter) painter;
+                entry = new Entry(painter, position, SECONDS_PER_HOUR / proportional.getSqMetersPerHour(), 0, 0, 0,
+                        proportional.getRate().getCentsPerSecond());
+            } else if (painter.getClass() == CompressionPainter.class) {
+                CompressionPainter compression = (CompressionPainter) painter;
+                entry = new Entry(painter, position, SECONDS_PER_HOUR / compression.getSqMetersPerHour(),
+                        1 / compression.getFillAfterSqMeters(), compression.getFillSeconds(),
+                        compression.getCleaningSeconds(), compression.getRate().getCentsPerSecond());
+            }
+            return entry != null && entry.isBounded() ? entry : null;
+        }
+
+        private boolean isBounded() {
+            return this.paintingSecondsPerSqMeter > 0 && Double.isFinite(this.secondsPerSqMeter)
+                    && this.refillsPerSqMeter >= 0 && Double.isFinite(this.refillsPerSqMeter)
+                    && this.cleaningSeconds >= 0
+                    && this.centsPerSecond >= 0 && Double.isFinite(this.centsPerSecond);
+        }
+    }
+
+    /**
+     * Best painter found so far, by cost or by time, only among painters finishing within the limit
+     * Painters are compared by their exact estimates, equal ones by their position in the registry
+     */
+    static class Best {
+        private final boolean byTime;
+        private final long limitNanos;
+        private Painter painter;
+        private int position = Integer.MAX_VALUE;
+        private long value;
+
+        Best(boolean byTime, long limitNanos) {
+            this.byTime = byTime;
+            this.limitNanos = limitNanos;
+        }
+
+        boolean isByTime() {
+            return this.byTime;
+        }
+
+        double limitSeconds() {
+            return this.limitNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        }
+
+        boolean mayImprove(double bound, int position) {
+            return this.painter == null || bound < this.value || bound == this.value && position < this.position;
+        }
+
+        void offer(Painter painter, int position, double sqMeters) {
+            long nanos = this.byTime || this.limitNanos < Long.MAX_VALUE ? painter.estimateNanosToPaint(sqMeters) : 0;
+            if (nanos > this.limitNanos) {
+                return;
+            }
+            long value = this.byTime ? nanos : painter.estimateCompensationCents(sqMeters);
+            if (this.painter == null || value < this.value || value == this.value && position < this.position) {
+                this.painter = painter;
+                this.position = position;
+                this.value = value;
+            }
+        }
+
+        Painter getPainter() {
+            return this.painter;
+        }
+    }
+}
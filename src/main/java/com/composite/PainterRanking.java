@@ -0,0 +1,70 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks a painter for a job, painters ranked lower are preferred
+ * A ranking is asked once per painter and job, so it may be as expensive as a whole schedule
+ */
+public interface PainterRanking {
+    double rank(Painter painter, double sqMeters);
+
+    /**
+     * Best ranked available painter of the registry
+     * Rankings the index of the registry knows look the painter up, the others rank every painter
+     * @param registry
+     * @param sqMeters
+     * @param parallelism
+     * @return
+     */
+    default Optional<Painter> bestIn(PainterRegistry registry, double sqMeters, Parallelism parallelism) {
+        return RankingScheduler.of(1, this).in(parallelism).select(registry.getPainters(), sqMeters).stream().findFirst();
+    }
+
+    static PainterRanking cheapest() {
+        return new PainterRanking() {
+            @Override
+            public double rank(Painter painter, double sqMeters) {
+                return painter.estimateCompensationCents(sqMeters);
+            }
+
+            @Override
+            public Optional<Painter> bestIn(PainterRegistry registry, double sqMeters, Parallelism parallelism) {
+                return registry.cheapest(sqMeters);
+            }
+        };
+    }
+
+    static PainterRanking fastest() {
+        return new PainterRanking() {
+            @Override
+            public double rank(Painter painter, double sqMeters) {
+                return painter.estimateNanosToPaint(sqMeters);
+            }
+
+            @Override
+            public Optional<Painter> bestIn(PainterRegistry registry, double sqMeters, Parallelism parallelism) {
+                return registry.fastest(sqMeters);
+            }
+        };
+    }
+
+    /**
+     * Mix of cost and time, costWeight for every cent and timeWeight for every second
+     * Both are read from a single quote of the painter
+     * @param costWeight
+     * @param timeWeight
+     * @return
+     */
+    static PainterRanking weighted(double costWeight, double timeWeight) {
+        return (painter, sqMeters) -> {
+            Quote quote = painter.quote(sqMeters);
+            return costWeight * quote.getCompensationCents()
+                    + timeWeight * quote.getNanosToPaint() / TimeUnit.SECONDS.toNanos(1);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A pool of painters indexed for finding the best one without asking every painter
+ * Proportional and compression painters are indexed by their speed, cleaning time and rate, they are always available
+ * Any other painter is asked directly on every query, so is every painter when the area is too large to bound
+ * Answers are the same as asking every available painter, the earlier one wins among equally good painters
+ */
+public class PainterRegistry {
+    private final List<Painter> painters;
+    private final PainterIndex index;
+    private final List<Integer> unindexed;
+
+    private PainterRegistry(List<Painter> painters, PainterIndex index, List<Integer> unindexed) {
+        this.painters = painters;
+        this.index = index;
+        this.unindexed = unindexed;
+    }
+
+    public static PainterRegistry of(List<Painter> painters) {
+        List<Painter> registered = Collections.unmodifiableList(new ArrayList<>(painters));
+        List<Integer> unindexed = new ArrayList<>();
+        PainterIndex index = PainterIndex.of(registered, unindexed);
+        return new PainterRegistry(registered, index, Collections.unmodifiableList(unindexed));
+    }
+
+    public List<Painter> getPainters() {
+        return this.painters;
+    }
+
+    public boolean isEmpty() {
+        return this.painters.isEmpty();
+    }
+
+    public Optional<Painter> cheapest(double sqMeters) {
+        return this.find(new PainterIndex.Best(false, Long.MAX_VALUE), sqMeters);
+    }
+
+    /**
+     * Cheapest painter able to paint the area within the given time
+     * @param sqMeters
+     * @param time
+     * @return
+     */
+    public Optional<Painter> cheapestWithin(double sqMeters, Duration time) {
+        return this.find(new PainterIndex.Best(false, time.toNanos()), sqMeters);
+    }
+
+    public Optional<Painter> fastest(double sqMeters) {
+        return this.find(new PainterIndex.Best(true, Long.MAX_VALUE), sqMeters);
+    }
+
+    private Optional<Painter> find(PainterIndex.Best best, double sqMeters) {
+        if (this.index.covers(sqMeters)) {
+            this.index.search(sqMeters, best);
+            this.unindexed.forEach(position -> this.offer(best, position, sqMeters));
+        } else {
+            for (int position = 0; position < this.painters.size(); position++) {
+                this.offer(best, position, sqMeters);
+            }
+        }
+        return Optional.ofNullable(best.getPainter());
+    }
+
+    private void offer(PainterIndex.Best best, int position, double sqMeters) {
+        this.painters.get(position).available().asOptional()
+                .ifPresent(painter -> best.offer(painter, position, sqMeters));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d painters, %d of them not indexed", this.painters.size(), this.unindexed.size());
+    }
+}
@@ -14,4 +14,35 @@ import java.util.stream.Stream;
 public interface PaintingScheduler {
 //    Stream<WorkAssignment> schedule(List<Painter> painters, double sqMeters);
     WorkStream schedule(List<Painter> painters, double sqMeters);
+
+    /**
+     * Schedulers which can find their painters in the index of the registry override it, the others ask every painter
+     * @param registry
+     * @param sqMeters
+     * @return
+     */
+    default WorkStream schedule(PainterRegistry registry, double sqMeters) {
+        return this.schedule(registry.getPainters(), sqMeters);
+    }
+
+    /**
+     * Schedules the area once and quotes every assignment once
+     * @param painters
+     * @param sqMeters
+     * @return
+     */
+    default ScheduleResult evaluate(List<Painter> painters, double sqMeters) {
+        return this.schedule(painters, sqMeters).evaluate();
+    }
+
+    /**
+     * Session keeping the schedule of the area while the crew changes
+     * Schedulers which can adjust a schedule override it, the others schedule the whole crew again
+     * @param painters
+     * @param sqMeters
+     * @return
+     */
+    default SchedulingSession open(List<Painter> painters, double sqMeters) {
+        return new ReschedulingSession(this, painters, sqMeters);
+    }
 }
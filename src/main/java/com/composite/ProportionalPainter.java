@@ -6,6 +6,7 @@ import com.domain.logic.with.streams.Painter;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Time proportional to area
@@ -31,6 +32,14 @@ public class ProportionalPainter implements Painter {
         return this.sqMetersPerHour * (time.getSeconds()) / (double)3600;
     }
 
+    double getSqMetersPerHour() {
+        return this.sqMetersPerHour;
+    }
+
+    MoneyRate getRate() {
+        return this.rate;
+    }
+
     private int getSecondsToPaint(double sqMeters) {
         return (int)(sqMeters / this.sqMetersPerHour * 3600);
     }
@@ -47,7 +56,39 @@ public class ProportionalPainter implements Painter {
 
     @Override
     public Money estimateCompensation(double sqMeters) {
-        return this.rate.getTotalFor(this.estimateTimeToPaint(sqMeters));
+        return Money.ofCents(this.estimateCompensationCents(sqMeters));
+    }
+
+    @Override
+    public long estimateNanosToPaint(double sqMeters) {
+        return TimeUnit.SECONDS.toNanos(this.getSecondsToPaint(sqMeters));
+    }
+
+    @Override
+    public long estimateCompensationCents(double sqMeters) {
+        return this.rate.getTotalCentsFor(this.getSecondsToPaint(sqMeters));
+    }
+
+    @Override
+    public double estimateSqMetersPerSecond(double sqMeters) {
+        return sqMeters / (double) this.getSecondsToPaint(sqMeters);
+    }
+
+    @Override
+    public Optional<Duration> timeForSqMeters(double sqMeters) {
+        return Optional.of(SqMetersEnvelope.wholeSecondsReaching(
+                sqMeters, sqMeters / this.sqMetersPerHour * 3600,
+                seconds -> this.estimateSqMeters(Duration.ofSeconds(seconds))));
+    }
+
+    /**
+     * Area grows in a straight line
+     * @param horizon
+     * @return
+     */
+    @Override
+    public Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        return Optional.of(SqMetersEnvelope.linear(this.sqMetersPerHour / 3600, horizon));
     }
 
     public String toString() {
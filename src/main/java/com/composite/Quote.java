@@ -0,0 +1,53 @@
+package com.composite;
+
+import com.composite.common.TimeUtils;
+import com.domain.logic.with.streams.Money;
+
+import java.time.Duration;
+
+/**
+ * Everything a customer asks about a job at once - the area, how long it takes and what it costs
+ * Composite painters answer all three from a single schedule, instead of scheduling the crew once per question
+ * Time is kept in nanoseconds and cost in cents, Duration and Money are built only when asked for
+ */
+public class Quote {
+    private final double sqMeters;
+    private final long nanosToPaint;
+    private final long compensationCents;
+
+    private Quote(double sqMeters, long nanosToPaint, long compensationCents) {
+        this.sqMeters = sqMeters;
+        this.nanosToPaint = nanosToPaint;
+        this.compensationCents = compensationCents;
+    }
+
+    public static Quote of(double sqMeters, long nanosToPaint, long compensationCents) {
+        return new Quote(sqMeters, nanosToPaint, compensationCents);
+    }
+
+    public double getSqMeters() {
+        return this.sqMeters;
+    }
+
+    public long getNanosToPaint() {
+        return this.nanosToPaint;
+    }
+
+    public long getCompensationCents() {
+        return this.compensationCents;
+    }
+
+    public Duration getTimeToPaint() {
+        return Duration.ofNanos(this.nanosToPaint);
+    }
+
+    public Money getCompensation() {
+        return Money.ofCents(this.compensationCents);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.2f sq. meters during %s at total cost %s",
+                this.sqMeters, TimeUtils.format(this.getTimeToPaint()), this.getCompensation());
+    }
+}
@@ -0,0 +1,45 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+
+/**
+ * Assignment of a snapshot, its estimates are those of the quote made when the snapshot was taken
+ */
+class QuotedAssignment extends WorkAssignment {
+    private final long nanosToPaint;
+    private final long compensationCents;
+
+    QuotedAssignment(Painter painter, double sqMeters, long nanosToPaint, long compensationCents) {
+        super(painter, sqMeters);
+        this.nanosToPaint = nanosToPaint;
+        this.compensationCents = compensationCents;
+    }
+
+    @Override
+    public Money estimateCompensation() {
+        return Money.ofCents(this.compensationCents);
+    }
+
+    @Override
+    public Duration estimateTimeToPaint() {
+        return Duration.ofNanos(this.nanosToPaint);
+    }
+
+    @Override
+    public long estimateCompensationCents() {
+        return this.compensationCents;
+    }
+
+    @Override
+    public long estimateNanosToPaint() {
+        return this.nanosToPaint;
+    }
+
+    @Override
+    public Quote quote() {
+        return Quote.of(this.getSqMeters(), this.nanosToPaint, this.compensationCents);
+    }
+}
@@ -0,0 +1,99 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Selects the k best ranked available painters out of a pool, and lets them share the job
+ * Every painter is ranked exactly once, a bounded heap keeps the best k of them
+ * Large pools are ranked in parallel, every thread fills a heap of its own and the heaps are merged
+ * A single selected painter takes the whole area, more of them share it through the crew scheduler
+ * Among painters ranked equally, the one earlier in the pool is selected first
+ */
+public class RankingScheduler implements PaintingScheduler {
+    private final int k;
+    private final PainterRanking ranking;
+    private final PaintingScheduler crewScheduler;
+    private final Parallelism parallelism;
+
+    private RankingScheduler(int k, PainterRanking ranking, PaintingScheduler crewScheduler, Parallelism parallelism) {
+        this.k = k;
+        this.ranking = ranking;
+        this.crewScheduler = crewScheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * The k best painters share the job at constant velocity
+     * @param k
+     * @param ranking
+     * @return
+     */
+    public static RankingScheduler of(int k, PainterRanking ranking) {
+        if (k < 1) {
+            throw new IllegalArgumentException("At least one painter must be selected: " + k);
+        }
+        return new RankingScheduler(k, ranking, new ConstantVelocityScheduler(), Parallelism.sequential());
+    }
+
+    public static RankingScheduler cheapest(int k) {
+        return of(k, PainterRanking.cheapest());
+    }
+
+    public static RankingScheduler fastest(int k) {
+        return of(k, PainterRanking.fastest());
+    }
+
+    public RankingScheduler sharingWith(PaintingScheduler crewScheduler) {
+        return new RankingScheduler(this.k, this.ranking, crewScheduler, this.parallelism);
+    }
+
+    public RankingScheduler in(Parallelism parallelism) {
+        return new RankingScheduler(this.k, this.ranking, this.crewScheduler, parallelism);
+    }
+
+    @Override
+    public WorkStream schedule(List<Painter> painters, double sqMeters) {
+        List<Painter> selected = this.select(painters, sqMeters);
+        return selected.size() > 1
+                ? this.crewScheduler.schedule(selected, sqMeters)
+                : WorkAssignment.stream(selected.stream().map(painter -> painter.assign(sqMeters)));
+    }
+
+    /**
+     * A single painter is looked up in the index of the registry, when the ranking can use it
+     * @param registry
+     * @param sqMeters
+     * @return
+     */
+    @Override
+    public WorkStream schedule(PainterRegistry registry, double sqMeters) {
+        return this.k == 1
+                ? WorkAssignment.stream(this.ranking.bestIn(registry, sqMeters, this.parallelism)
+                        .map(painter -> Stream.of(painter.assign(sqMeters)))
+                        .orElse(Stream.empty()))
+                : this.schedule(registry.getPainters(), sqMeters);
+    }
+
+    /**
+     * Best ranked available painters for the job, the best one first
+     * @param painters
+     * @param sqMeters
+     * @return
+     */
+    public List<Painter> select(List<Painter> painters, double sqMeters) {
+        List<Painter> pool = painters instanceof RandomAccess ? painters : new ArrayList<>(painters);
+        return this.parallelism.range(pool.size())
+                .collect(() -> new TopPainters(this.k),
+                        (top, position) -> pool.get(position).available().asOptional()
+                                .ifPresent(painter -> top.offer(painter, position, this.ranking.rank(painter, sqMeters))),
+                        TopPainters::merge)
+                .best();
+    }
+}
@@ -0,0 +1,42 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Session of a scheduler which knows nothing better than scheduling the whole crew again
+ */
+class ReschedulingSession implements SchedulingSession {
+    private final PaintingScheduler scheduler;
+    private final double sqMeters;
+    private final List<Painter> painters = new ArrayList<>();
+
+    ReschedulingSession(PaintingScheduler scheduler, List<Painter> painters, double sqMeters) {
+        this.scheduler = scheduler;
+        this.sqMeters = sqMeters;
+        painters.forEach(this::join);
+    }
+
+    @Override
+    public boolean join(Painter painter) {
+        return !this.painters.contains(painter) && this.painters.add(painter);
+    }
+
+    @Override
+    public boolean leave(Painter painter) {
+        return this.painters.remove(painter);
+    }
+
+    @Override
+    public List<Painter> getPainters() {
+        return new ArrayList<>(this.painters);
+    }
+
+    @Override
+    public WorkStream schedule() {
+        return this.scheduler.schedule(this.getPainters(), this.sqMeters);
+    }
+}
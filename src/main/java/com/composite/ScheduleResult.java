@@ -0,0 +1,87 @@
+package com.composite;
+
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A schedule worked out once - the assignments of the crew together with the quote of each of them
+ * The quote of the whole crew is made of the quotes of the assignments, nobody is asked twice
+ * Painters work side by side, so the crew takes as long as its slowest assignment and costs what all of them cost
+ */
+public class ScheduleResult {
+    private final List<WorkAssignment> assignments;
+    private final List<Quote> quotes;
+    private final Quote quote;
+
+    private ScheduleResult(List<WorkAssignment> assignments, List<Quote> quotes, Quote quote) {
+        this.assignments = assignments;
+        this.quotes = quotes;
+        this.quote = quote;
+    }
+
+    /**
+     * Areas are added up in the order of assignments, the same way a sequential stream adds them
+     * @param assignments
+     * @param quotes
+     * @return
+     */
+    public static ScheduleResult of(List<WorkAssignment> assignments, List<Quote> quotes) {
+        if (assignments.size() != quotes.size()) {
+            throw new IllegalArgumentException("Every assignment needs its own quote");
+        }
+        double sqMeters = 0;
+        long nanosToPaint = 0;
+        long compensationCents = 0;
+        for (Quote quote : quotes) {
+            sqMeters += quote.getSqMeters();
+            nanosToPaint = Math.max(nanosToPaint, quote.getNanosToPaint());
+            compensationCents = Math.addExact(compensationCents, quote.getCompensationCents());
+        }
+        return new ScheduleResult(
+                Collections.unmodifiableList(assignments), Collections.unmodifiableList(quotes),
+                Quote.of(sqMeters, nanosToPaint, compensationCents));
+    }
+
+    public boolean isEmpty() {
+        return this.assignments.isEmpty();
+    }
+
+    public List<WorkAssignment> getAssignments() {
+        return this.assignments;
+    }
+
+    /**
+     * Quotes of the assignments, in the order of assignments
+     * @return
+     */
+    public List<Quote> getQuotes() {
+        return this.quotes;
+    }
+
+    public Quote getQuote() {
+        return this.quote;
+    }
+
+    /**
+     * Same assignments and quotes in parallel arrays, painters are not asked again
+     * @return
+     */
+    public WorkSnapshot snapshot() {
+        return WorkSnapshot.of(this.assignments, this.quotes);
+    }
+
+    /**
+     * Streams the assignments again, as many times as needed
+     * @return
+     */
+    public WorkStream stream() {
+        return WorkAssignment.stream(this.assignments.stream());
+    }
+
+    @Override
+    public String toString() {
+        return this.quote.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Schedule of one area kept up to date while painters join and leave the crew
+ * Schedulers open sessions which adjust what changed, instead of scheduling the whole crew again
+ */
+public interface SchedulingSession {
+
+    /**
+     * @param painter
+     * @return false when the painter is already in the crew
+     */
+    boolean join(Painter painter);
+
+    /**
+     * @param painter
+     * @return false when the painter is not in the crew
+     */
+    boolean leave(Painter painter);
+
+    List<Painter> getPainters();
+
+    /**
+     * Assignments of the current crew, unaffected by painters joining or leaving later
+     * @return
+     */
+    WorkStream schedule();
+
+    default Optional<WorkAssignment> assignmentOf(Painter painter) {
+        return this.schedule()
+                .filter(assignment -> assignment.getPainter() == painter)
+                .findFirst();
+    }
+}
@@ -41,20 +41,16 @@ public class SelectingScheduler implements PaintingScheduler {
         return this.getWinner(painters, sqMeters).assign(sqMeters).stream();
     }
 
+    /**
+     * Comparators estimate both painters on every comparison, ranking estimates every painter once
+     * @return
+     */
     public static PaintingScheduler cheapest() {
-        return new SelectingScheduler(SelectingScheduler::cheaper);
+        return RankingScheduler.cheapest(1);
     }
 
     public static PaintingScheduler fastest() {
-        return new SelectingScheduler(SelectingScheduler::faster);
-    }
-
-    private static  Comparator<Painter> cheaper(double sqMeters) {
-        return Comparator.comparing(painter -> painter.estimateTimeToPaint(sqMeters));
-    }
-
-    private static Comparator<Painter> faster(double sqMeters) {
-        return Comparator.comparing(painter -> painter.estimateCompensation(sqMeters));
+        return RankingScheduler.fastest(1);
     }
 
     private OptionalPainter getWinner(List<Painter> painters, double sqMeters) {
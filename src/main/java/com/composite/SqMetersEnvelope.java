@@ -0,0 +1,232 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Area a painter covers as a function of time, up to a horizon
+ * It is represented by breakpoints, between two breakpoints the area grows linearly
+ * Envelopes of many painters add up into a single envelope, in one sweep over all breakpoints
+ * Inverting the envelope tells how long a crew needs to cover an area, without searching for that time
+ * Painters measure time in whole seconds, so are the times this envelope answers with
+ */
+public class SqMetersEnvelope {
+    private final double[] seconds;
+    private final double[] sqMeters;
+
+    SqMetersEnvelope(double[] seconds, double[] sqMeters) {
+        this.seconds = seconds;
+        this.sqMeters = sqMeters;
+    }
+
+    public static SqMetersEnvelope linear(double sqMetersPerSecond, Duration horizon) {
+        double horizonSeconds = horizon.getSeconds();
+        return new SqMetersEnvelope(
+                new double[] {0, horizonSeconds},
+                new double[] {0, sqMetersPerSecond * horizonSeconds});
+    }
+
+    /**
+     * Envelope of a crew working together, present only if every painter knows its own envelope
+     * @param painters
+     * @param horizon
+     * @return
+     */
+    public static Optional<SqMetersEnvelope> of(List<Painter> painters, Duration horizon) {
+        List<SqMetersEnvelope> envelopes = new ArrayList<>(painters.size());
+        for (Painter painter : painters) {
+            Optional<SqMetersEnvelope> envelope = painter.estimateEnvelope(horizon);
+            if (!envelope.isPresent()) {
+                return Optional.empty();
+            }
+            envelopes.add(envelope.get());
+        }
+        return envelopes.isEmpty() ? Optional.empty() : Optional.of(sum(envelopes));
+    }
+
+    /**
+     * Adds envelopes up by merging the changes of their slopes in time order
+     * The sum is defined up to the shortest horizon among the envelopes
+     * @param envelopes
+     * @return
+     */
+    public static SqMetersEnvelope sum(List<SqMetersEnvelope> envelopes) {
+        PriorityQueue<SlopeChanges> queue =
+                new PriorityQueue<>(Math.max(envelopes.size(), 1), Comparator.comparingDouble(SlopeChanges::getSeconds));
+        double horizon = Double.POSITIVE_INFINITY;
+        double area = 0;
+        int breakpoints = 0;
+        for (SqMetersEnvelope envelope : envelopes) {
+            horizon = Math.min(horizon, envelope.getHorizonSeconds());
+            area += envelope.sqMeters[0];
+            breakpoints += envelope.seconds.length;
+            queue.add(new SlopeChanges(envelope));
+        }
+
+        double[] seconds = new double[breakpoints + 1];
+        double[] sqMeters = new double[breakpoints + 1];
+        int count = 1;
+        double time = 0;
+        double slope = 0;
+        sqMeters[0] = area;
+
+        while (!queue.isEmpty() && queue.peek().getSeconds() < horizon) {
+            SlopeChanges changes = queue.poll();
+            if (changes.getSeconds() > time) {
+                area += slope * (changes.getSeconds() - time);
+                time = changes.getSeconds();
+                seconds[count] = time;
+                sqMeters[count++] = area;
+            }
+            slope += changes.next();
+            if (changes.hasNext()) {
+                queue.add(changes);
+            }
+        }
+
+        if (horizon > time || count == 1) {
+            seconds[count] = horizon;
+            sqMeters[count++] = area + slope * (horizon - time);
+        }
+
+        return new SqMetersEnvelope(Arrays.copyOf(seconds, count), Arrays.copyOf(sqMeters, count));
+    }
+
+    /**
+     * Same breakpoints with the area taken away, adding it to a sum takes this envelope out of the sum
+     * @return
+     */
+    SqMetersEnvelope negate() {
+        double[] negated = new double[this.sqMeters.length];
+        for (int i = 0; i < negated.length; i++) {
+            negated[i] = -this.sqMeters[i];
+        }
+        return new SqMetersEnvelope(this.seconds, negated);
+    }
+
+    public double getHorizonSeconds() {
+        return this.seconds[this.seconds.length - 1];
+    }
+
+    public double estimateSqMeters(Duration time) {
+        return this.estimateSqMeters(time.getSeconds());
+    }
+
+    /**
+     * Beyond the horizon the last slope continues
+     * @param wholeSeconds
+     * @return
+     */
+    private double estimateSqMeters(long wholeSeconds) {
+        int last = this.seconds.length - 1;
+        int index = Arrays.binarySearch(this.seconds, wholeSeconds);
+        if (index >= 0) {
+            return this.sqMeters[index];
+        }
+        int upper = Math.min(Math.max(-index - 1, 1), last);
+        return this.interpolate(upper - 1, upper, wholeSeconds);
+    }
+
+    private double interpolate(int from, int to, double time) {
+        double span = this.seconds[to] - this.seconds[from];
+        return span == 0
+                ? this.sqMeters[to]
+                : this.sqMeters[from] + (this.sqMeters[to] - this.sqMeters[from]) * (time - this.seconds[from]) / span;
+    }
+
+    /**
+     * Shortest time, in whole seconds, after which the area reaches sqMeters
+     * Empty when the area is not reached within the horizon
+     * @param sqMeters
+     * @return
+     */
+    public Optional<Duration> timeFor(double sqMeters) {
+        int last = this.sqMeters.length - 1;
+        if (sqMeters <= this.sqMeters[0]) {
+            return Optional.of(Duration.ZERO);
+        }
+        if (sqMeters > this.sqMeters[last]) {
+            return Optional.empty();
+        }
+
+        int upper = this.firstReaching(sqMeters);
+        double from = this.sqMeters[upper - 1];
+        double seconds = this.seconds[upper - 1]
+                + (sqMeters - from) / (this.sqMeters[upper] - from) * (this.seconds[upper] - this.seconds[upper - 1]);
+
+        return Optional.of(wholeSecondsReaching(sqMeters, seconds, this::estimateSqMeters));
+    }
+
+    private int firstReaching(double sqMeters) {
+        int low = 1;
+        int high = this.sqMeters.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.sqMeters[middle] >= sqMeters) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Rounds an analytic time up to whole seconds, the way painters measure time
+     * Corrects the rounding error of the analytic time against the area actually covered
+     * @param sqMeters
+     * @param seconds
+     * @param sqMetersAt
+     * @return
+     */
+    static Duration wholeSecondsReaching(double sqMeters, double seconds, LongToDoubleFunction sqMetersAt) {
+        long wholeSeconds = (long) Math.ceil(seconds);
+        while (wholeSeconds > 0 && sqMetersAt.applyAsDouble(wholeSeconds - 1) >= sqMeters) {
+            wholeSeconds--;
+        }
+        while (sqMetersAt.applyAsDouble(wholeSeconds) < sqMeters && wholeSeconds < seconds + 2) {
+            wholeSeconds++;
+        }
+        return Duration.ofSeconds(wholeSeconds);
+    }
+
+    /**
+     * Walks the breakpoints of one envelope, telling by how much the slope changes at each of them
+     */
+    private static class SlopeChanges {
+        private final SqMetersEnvelope envelope;
+        private int index;
+        private double slope;
+
+        SlopeChanges(SqMetersEnvelope envelope) {
+            this.envelope = envelope;
+        }
+
+        double getSeconds() {
+            return this.envelope.seconds[this.index];
+        }
+
+        boolean hasNext() {
+            return this.index < this.envelope.seconds.length - 1;
+        }
+
+        double next() {
+            double[] seconds = this.envelope.seconds;
+            double[] sqMeters = this.envelope.sqMeters;
+            double span = seconds[this.index + 1] - seconds[this.index];
+            double nextSlope = span == 0 ? this.slope : (sqMeters[this.index + 1] - sqMeters[this.index]) / span;
+            double change = nextSlope - this.slope;
+            this.slope = nextSlope;
+            this.index++;
+            return change;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The k best ranked painters seen so far, kept in a bounded heap with the worst of them on top
+ * A painter enters only when it ranks better than the worst one kept, which is then dropped
+ * Equal ranks are told apart by the position of the painter in the pool, the earlier one is better
+ * Heaps filled from parts of the pool merge into the heap of the whole pool
+ */
+class TopPainters {
+    private final int capacity;
+    private final double[] ranks;
+    private final int[] positions;
+    private final Painter[] painters;
+    private int size;
+
+    TopPainters(int capacity) {
+        this.capacity = capacity;
+        this.ranks = new double[capacity];
+        this.positions = new int[capacity];
+        this.painters = new Painter[capacity];
+    }
+
+    void offer(Painter painter, int position, double rank) {
+        if (this.size < this.capacity) {
+            this.ranks[this.size] = rank;
+            this.positions[this.size] = position;
+            this.painters[this.size] = painter;
+            this.siftUp(this.size++);
+        } else if (this.capacity > 0 && isBetter(rank, position, this.ranks[0], this.positions[0])) {
+            this.ranks[0] = rank;
+            this.positions[0] = position;
+            this.painters[0] = painter;
+            this.siftDown(0);
+        }
+    }
+
+    void merge(TopPainters other) {
+        for (int i = 0; i < other.size; i++) {
+            this.offer(other.painters[i], other.positions[i], other.ranks[i]);
+        }
+    }
+
+    /**
+     * Painters kept, the best ranked first
+     * @return
+     */
+    List<Painter> best() {
+        Integer[] order = new Integer[this.size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> isBetter(this.ranks[a], this.positions[a], this.ranks[b], this.positions[b]) ? -1
+                : isBetter(this.ranks[b], this.positions[b], this.ranks[a], this.positions[a]) ? 1 : 0);
+        List<Painter> best = new ArrayList<>(this.size);
+        for (int index : order) {
+            best.add(this.painters[index]);
+        }
+        return best;
+    }
+
+    /**
+     * NaN ranks worse than any number, the same way Double.compare orders it
+     */
+    private static boolean isBetter(double rank, int position, double otherRank, int otherPosition) {
+        int byRank = Double.compare(rank, otherRank);
+        return byRank < 0 || byRank == 0 && position < otherPosition;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(this.ranks[parent], this.positions[parent], this.ranks[index], this.positions[index])) {
+                return;
+            }
+            this.swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int worst = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < this.size; child++) {
+                if (isBetter(this.ranks[worst], this.positions[worst], this.ranks[child], this.positions[child])) {
+                    worst = child;
+                }
+            }
+            if (worst == index) {
+                return;
+            }
+            this.swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int first, int second) {
+        double rank = this.ranks[first];
+        this.ranks[first] = this.ranks[second];
+        this.ranks[second] = rank;
+        int position = this.positions[first];
+        this.positions[first] = this.positions[second];
+        this.positions[second] = position;
+        Painter painter = this.painters[first];
+        this.painters[first] = this.painters[second];
+        this.painters[second] = painter;
+    }
+}
@@ -43,6 +43,18 @@ public class WorkAssignment {
         return this.painter.estimateTimeToPaint(this.sqMeters);
     }
 
+    public long estimateCompensationCents() {
+        return this.painter.estimateCompensationCents(this.sqMeters);
+    }
+
+    public long estimateNanosToPaint() {
+        return this.painter.estimateNanosToPaint(this.sqMeters);
+    }
+
+    public Quote quote() {
+        return this.painter.quote(this.sqMeters);
+    }
+
     /**
      * WorkAssinment is the stream factory, and we can use it to create a WorkStrem which will have specialized methods for the stream
      * @param assignments
@@ -54,9 +66,9 @@ public class WorkAssignment {
 
     @Override
     public String toString() {
-        Money compensation = this.painter.estimateCompensation(sqMeters);
-        Duration totalTime = this.painter.estimateTimeToPaint(sqMeters);
-        String formattedTime = TimeUtils.format(totalTime);
+        Quote quote = this.quote();
+        Money compensation = quote.getCompensation();
+        String formattedTime = TimeUtils.format(quote.getTimeToPaint());
 
         return String.format(
                 "Letting %s paint %.2f sq. meters during %s at total cost %s",
@@ -0,0 +1,202 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A schedule kept after it was worked out, every assignment quoted once
+ * Painters, areas, times and costs sit in parallel arrays, one index per assignment
+ * It can be read as many times as needed, cut into slices sharing the same arrays, and streamed again
+ * Streams of a snapshot answer estimates from the quotes, painters are not asked again
+ */
+public class WorkSnapshot {
+    private final Painter[] painters;
+    private final double[] sqMeters;
+    private final long[] nanosToPaint;
+    private final long[] compensationCents;
+    private final int from;
+    private final int to;
+
+    private WorkSnapshot(Painter[] painters, double[] sqMeters, long[] nanosToPaint, long[] compensationCents,
+                         int from, int to) {
+        this.painters = painters;
+        this.sqMeters = sqMeters;
+        this.nanosToPaint = nanosToPaint;
+        this.compensationCents = compensationCents;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Runs the schedule and quotes every assignment once, in parallel when the stream is parallel
+     * @param schedule
+     * @return
+     */
+    public static WorkSnapshot of(WorkStream schedule) {
+        boolean parallel = schedule.getStream().isParallel();
+        List<WorkAssignment> assignments = schedule.getStream().collect(Collectors.toList());
+        WorkSnapshot snapshot = allocate(assignments.size());
+        IntStream indices = IntStream.range(0, assignments.size());
+        (parallel ? indices.parallel() : indices).forEach(index -> {
+            WorkAssignment assignment = assignments.get(index);
+            snapshot.set(index, assignment, assignment.quote());
+        });
+        return snapshot;
+    }
+
+    /**
+     * Snapshot of assignments quoted already, the quote of each assignment at the same index
+     */
+    static WorkSnapshot of(List<WorkAssignment> assignments, List<Quote> quotes) {
+        WorkSnapshot snapshot = allocate(assignments.size());
+        for (int index = 0; index < assignments.size(); index++) {
+            snapshot.set(index, assignments.get(index), quotes.get(index));
+        }
+        return snapshot;
+    }
+
+    private static WorkSnapshot allocate(int size) {
+        return new WorkSnapshot(new Painter[size], new double[size], new long[size], new long[size], 0, size);
+    }
+
+    private void set(int index, WorkAssignment assignment, Quote quote) {
+        this.painters[index] = assignment.getPainter();
+        this.sqMeters[index] = assignment.getSqMeters();
+        this.nanosToPaint[index] = quote.getNanosToPaint();
+        this.compensationCents[index] = quote.getCompensationCents();
+    }
+
+    public int size() {
+        return this.to - this.from;
+    }
+
+    public boolean isEmpty() {
+        return this.to == this.from;
+    }
+
+    public Painter getPainter(int index) {
+        return this.painters[this.offset(index)];
+    }
+
+    public double getSqMeters(int index) {
+        return this.sqMeters[this.offset(index)];
+    }
+
+    public long getNanosToPaint(int index) {
+        return this.nanosToPaint[this.offset(index)];
+    }
+
+    public long getCompensationCents(int index) {
+        return this.compensationCents[this.offset(index)];
+    }
+
+    /**
+     * Assignment at the index, answering its estimates from its quote
+     * @param index
+     * @return
+     */
+    public WorkAssignment get(int index) {
+        return this.assignment(this.offset(index));
+    }
+
+    /**
+     * Assignments from the first index up to the second one, excluded, without copying them
+     * @param from
+     * @param to
+     * @return
+     */
+    public WorkSnapshot slice(int from, int to) {
+        if (from < 0 || to > this.size() || from > to) {
+            throw new IllegalArgumentException("Slice " + from + ".." + to + " out of " + this.size() + " assignments");
+        }
+        return new WorkSnapshot(this.painters, this.sqMeters, this.nanosToPaint, this.compensationCents,
+                this.from + from, this.from + to);
+    }
+
+    /**
+     * Visits the assignments in order, without building an object per assignment
+     * @param visitor
+     */
+    public void forEach(AssignmentVisitor visitor) {
+        for (int index = this.from; index < this.to; index++) {
+            visitor.visit(this.painters[index], this.sqMeters[index],
+                    this.nanosToPaint[index], this.compensationCents[index]);
+        }
+    }
+
+    /**
+     * Streams the assignments again, as many times as needed
+     * @return
+     */
+    public WorkStream stream() {
+        return WorkAssignment.stream(IntStream.range(this.from, this.to).mapToObj(this::assignment));
+    }
+
+    /**
+     * Longest time of the assignments, zero when there are none
+     * @return
+     */
+    public long maxNanosToPaint() {
+        long max = 0;
+        for (int index = this.from; index < this.to; index++) {
+            max = Math.max(max, this.nanosToPaint[index]);
+        }
+        return max;
+    }
+
+    public long totalCompensationCents() {
+        long total = 0;
+        for (int index = this.from; index < this.to; index++) {
+            total = Math.addExact(total, this.compensationCents[index]);
+        }
+        return total;
+    }
+
+    /**
+     * Areas are added up in the order of assignments, the same way ScheduleResult adds them
+     * @return
+     */
+    public double totalSqMeters() {
+        double total = 0;
+        for (int index = this.from; index < this.to; index++) {
+            total += this.sqMeters[index];
+        }
+        return total;
+    }
+
+    /**
+     * Quote of the assignments working side by side, as ScheduleResult gives it
+     * @return
+     */
+    public Quote getQuote() {
+        return Quote.of(this.totalSqMeters(), this.maxNanosToPaint(), this.totalCompensationCents());
+    }
+
+    private WorkAssignment assignment(int offset) {
+        return new QuotedAssignment(this.painters[offset], this.sqMeters[offset],
+                this.nanosToPaint[offset], this.compensationCents[offset]);
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IllegalArgumentException("No assignment " + index + " out of " + this.size());
+        }
+        return this.from + index;
+    }
+
+    @Override
+    public String toString() {
+        return this.getQuote().toString();
+    }
+
+    /**
+     * What a snapshot holds for every assignment
+     */
+    public interface AssignmentVisitor {
+        void visit(Painter painter, double sqMeters, long nanosToPaint, long compensationCents);
+    }
+}
@@ -0,0 +1,40 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+class BisectionFinder implements RootFinder {
+    static final BisectionFinder INSTANCE = new BisectionFinder();
+
+    private BisectionFinder() {
+    }
+
+    @Override
+    public DurationRoot find(DurationRange range, ToDoubleFunction<Duration> function, double target,
+                             Convergence convergence) {
+        RootSearch search = new RootSearch(function, target, convergence);
+        long low = range.getLowNanos();
+        long high = range.getHighNanos();
+        while (!search.isNarrow(low, high)) {
+            if (search.isExhausted()) {
+                return search.stopped(RootSearch.middle(low, high), false);
+            }
+            long middle = RootSearch.middle(low, high);
+            double value = search.functionAt(middle);
+            if (search.isClose(value - target)) {
+                return search.converged(middle);
+            }
+            if (search.reaches(value)) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return search.converged(RootSearch.middle(low, high));
+    }
+
+    @Override
+    public String toString() {
+        return "bisection";
+    }
+}
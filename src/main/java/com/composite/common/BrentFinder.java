@@ -0,0 +1,97 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Brent's method as Numerical Recipes gives it, on whole nanoseconds
+ * b is the best guess, c the other end of the range holding the time, a the guess before b
+ */
+class BrentFinder implements RootFinder {
+    static final BrentFinder INSTANCE = new BrentFinder();
+
+    private BrentFinder() {
+    }
+
+    @Override
+    public DurationRoot find(DurationRange range, ToDoubleFunction<Duration> function, double target,
+                             Convergence convergence) {
+        RootSearch search = new RootSearch(function, target, convergence);
+        long a = range.getLowNanos();
+        long b = range.getHighNanos();
+        double fa = search.valueAt(a);
+        if (fa >= 0) {
+            return search.converged(a);
+        }
+        double fb = search.valueAt(b);
+        if (fb < 0) {
+            return search.stopped(b, false);
+        }
+        long c = b;
+        double fc = fb;
+        double d = 0;
+        double e = 0;
+        while (true) {
+            if (fb >= 0 == fc >= 0) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+            double tolerance = 0.5 * search.toleranceNanos(b);
+            double half = 0.5 * ((double) c - b);
+            if (Math.abs(half) <= tolerance || fb == 0 || search.isClose(fb)) {
+                return search.converged(b);
+            }
+            if (search.isExhausted()) {
+                return search.stopped(b, false);
+            }
+            if (Math.abs(e) >= tolerance && Math.abs(fa) > Math.abs(fb)) {
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    p = 2 * half * s;
+                    q = 1 - s;
+                } else {
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2 * half * q * (q - r) - ((double) b - a) * (r - 1));
+                    q = (q - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                }
+                p = Math.abs(p);
+                if (2 * p < Math.min(3 * half * q - Math.abs(tolerance * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = half;
+                    e = d;
+                }
+            } else {
+                d = half;
+                e = d;
+            }
+            a = b;
+            fa = fb;
+            long step = Math.round(Math.abs(d) > tolerance ? d : Math.copySign(Math.max(tolerance, 1), half));
+            b += step == 0 ? (long) Math.signum(half) : step;
+            fb = search.valueAt(b);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "brent";
+    }
+}
@@ -0,0 +1,100 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * When a search for a time stops
+ * The time is close enough once it is known within an absolute tolerance, or within a share of itself
+ * A search may also stop on a time whose area is close enough to the target, or after a number of evaluations
+ * Searches stopped by the number of evaluations give the best time they had, and tell they did not converge
+ */
+public class Convergence {
+    private final long absoluteNanos;
+    private final double relative;
+    private final Optional<Double> residual;
+    private final Optional<Integer> maxIterations;
+
+    private Convergence(long absoluteNanos, double relative, Optional<Double> residual, Optional<Integer> maxIterations) {
+        this.absoluteNanos = absoluteNanos;
+        this.relative = relative;
+        this.residual = residual;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Time known within the tolerance
+     * @param tolerance
+     * @return
+     */
+    public static Convergence within(Duration tolerance) {
+        if (tolerance.isNegative() || tolerance.isZero()) {
+            throw new IllegalArgumentException("Tolerance must be positive: " + tolerance);
+        }
+        return new Convergence(tolerance.toNanos(), 0, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Time known within a share of itself, a thousandth of a day long job is known within a minute and a half
+     * @param share
+     * @return
+     */
+    public static Convergence relative(double share) {
+        if (!(share > 0 && share < 1)) {
+            throw new IllegalArgumentException("Relative tolerance out of range: " + share);
+        }
+        return new Convergence(1, share, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Also stops on a time whose area differs from the target by at most the residual
+     * @param sqMeters
+     * @return
+     */
+    public Convergence orResidual(double sqMeters) {
+        if (!(sqMeters >= 0)) {
+            throw new IllegalArgumentException("Residual must not be negative: " + sqMeters);
+        }
+        return new Convergence(this.absoluteNanos, this.relative, Optional.of(sqMeters), this.maxIterations);
+    }
+
+    /**
+     * Stops after the given number of evaluations at the latest
+     * @param iterations
+     * @return
+     */
+    public Convergence atMost(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("At least one iteration is needed: " + iterations);
+        }
+        return new Convergence(this.absoluteNanos, this.relative, this.residual, Optional.of(iterations));
+    }
+
+    /**
+     * Tolerance for a time around the given one
+     * @param nanos
+     * @return
+     */
+    long toleranceNanos(long nanos) {
+        return Math.max(this.absoluteNanos, (long) (this.relative * Math.abs(nanos)));
+    }
+
+    boolean isNarrow(long lowNanos, long highNanos) {
+        return highNanos - lowNanos <= this.toleranceNanos(highNanos);
+    }
+
+    boolean isClose(double residual) {
+        return this.residual.filter(limit -> Math.abs(residual) <= limit).isPresent();
+    }
+
+    boolean isExhausted(int iterations) {
+        return this.maxIterations.filter(limit -> iterations >= limit).isPresent();
+    }
+
+    @Override
+    public String toString() {
+        return (this.relative > 0 ? "within " + this.relative + " of the time" : "within " + Duration.ofNanos(this.absoluteNanos))
+                + this.residual.map(residual -> ", or " + residual + " sq. meters").orElse("")
+                + this.maxIterations.map(iterations -> ", at most " + iterations + " iterations").orElse("");
+    }
+}
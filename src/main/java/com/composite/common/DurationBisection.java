@@ -14,8 +14,9 @@ public class DurationBisection<TCriterion extends Comparable<TCriterion>> {
 
     public DurationRange convergeTo(TCriterion pivot, Duration tolerance) {
         DurationRange current = this.initialRange;
+        long toleranceNanos = tolerance.toNanos();
 
-        while(current.range().compareTo(tolerance) > 0) {
+        while(current.rangeNanos() > toleranceNanos) {
             Comparable<TCriterion> criterion = this.criterionFunction.apply(current.middle());
             current = criterion.compareTo(pivot) >= 0 ? current.lowerHalf() : current.upperHalf();
         }
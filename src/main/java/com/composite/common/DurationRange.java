@@ -2,39 +2,80 @@ package com.composite.common;
 
 import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 
+/**
+ * Bounds are kept in nanoseconds, Duration is only built when a caller asks for one
+ */
 public class DurationRange {
 
-    private Duration low;
-    private Duration high;
+    private long lowNanos;
+    private long highNanos;
 
     public DurationRange(Duration low, Duration high) {
-        this.low = low;
-        this.high = high;
+        this(low.toNanos(), high.toNanos());
+    }
+
+    private DurationRange(long lowNanos, long highNanos) {
+        this.lowNanos = lowNanos;
+        this.highNanos = highNanos;
     }
 
     public static DurationRange zeroTo(Duration high) {
         return new DurationRange(Duration.ZERO, high);
     }
 
+    long getLowNanos() {
+        return this.lowNanos;
+    }
+
+    long getHighNanos() {
+        return this.highNanos;
+    }
+
     public Duration middle() {
-        return this.low.plus(high).dividedBy(2);
+        return Duration.ofNanos(this.middleNanos());
+    }
+
+    /**
+     * Rounds towards zero, as Duration.dividedBy does
+     * @return
+     */
+    public long middleNanos() {
+        return (this.lowNanos + this.highNanos) / 2;
     }
 
     public Duration range() {
-        return this.high.minus(this.low);
+        return Duration.ofNanos(this.rangeNanos());
+    }
+
+    public long rangeNanos() {
+        return this.highNanos - this.lowNanos;
     }
 
     public DurationRange lowerHalf() {
-        return new DurationRange(this.low, this.middle());
+        return new DurationRange(this.lowNanos, this.middleNanos());
     }
 
     public DurationRange upperHalf() {
-        return new DurationRange(this.middle(), this.high);
+        return new DurationRange(this.middleNanos(), this.highNanos);
     }
 
     public <TCriterion extends Comparable<TCriterion>> DurationBisection<TCriterion> bisect(
             Function<Duration, TCriterion> criterionFunction) {
         return new DurationBisection<TCriterion>(this, criterionFunction);
     }
+
+    /**
+     * Time within this range at which the growing function reaches the target, as the finder searches for it
+     * @param function
+     * @param target
+     * @param finder
+     * @param convergence
+     * @return
+     */
+    public DurationRoot findRoot(ToDoubleFunction<Duration> function, double target,
+                                 RootFinder finder, Convergence convergence) {
+        return finder.find(this, function, target, convergence);
+    }
 }
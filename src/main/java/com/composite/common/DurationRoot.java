@@ -0,0 +1,44 @@
+package com.composite.common;
+
+import java.time.Duration;
+
+/**
+ * Time a root finder found, and how many evaluations of the function it took
+ */
+public class DurationRoot {
+    private final long nanos;
+    private final int iterations;
+    private final boolean converged;
+
+    DurationRoot(long nanos, int iterations, boolean converged) {
+        this.nanos = nanos;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    public Duration getTime() {
+        return Duration.ofNanos(this.nanos);
+    }
+
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    /**
+     * False when the search ran out of iterations before reaching its tolerance
+     * @return
+     */
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s after %d iterations%s", this.getTime(), this.iterations,
+                this.converged ? "" : ", not converged");
+    }
+}
@@ -0,0 +1,59 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+class IllinoisFinder implements RootFinder {
+    static final IllinoisFinder INSTANCE = new IllinoisFinder();
+
+    private IllinoisFinder() {
+    }
+
+    @Override
+    public DurationRoot find(DurationRange range, ToDoubleFunction<Duration> function, double target,
+                             Convergence convergence) {
+        RootSearch search = new RootSearch(function, target, convergence);
+        long low = range.getLowNanos();
+        long high = range.getHighNanos();
+        double lowValue = search.valueAt(low);
+        if (lowValue >= 0) {
+            return search.converged(low);
+        }
+        double highValue = search.valueAt(high);
+        if (highValue < 0) {
+            return search.stopped(high, false);
+        }
+        int side = 0;
+        while (!search.isNarrow(low, high)) {
+            if (search.isExhausted()) {
+                return search.stopped(RootSearch.middle(low, high), false);
+            }
+            long next = search.interpolate(low, lowValue, high, highValue, low, high);
+            double value = search.valueAt(next);
+            if (search.isClose(value)) {
+                return search.converged(next);
+            }
+            if (value >= 0) {
+                high = next;
+                highValue = value;
+                if (side > 0) {
+                    lowValue /= 2;
+                }
+                side = 1;
+            } else {
+                low = next;
+                lowValue = value;
+                if (side < 0) {
+                    highValue /= 2;
+                }
+                side = -1;
+            }
+        }
+        return search.converged(RootSearch.middle(low, high));
+    }
+
+    @Override
+    public String toString() {
+        return "illinois";
+    }
+}
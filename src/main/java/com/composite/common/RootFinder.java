@@ -0,0 +1,48 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Strategy searching a range for the time at which a growing function, such as the area a crew has covered, reaches a target
+ * Bisection halves the range on every evaluation, the others interpolate and need far fewer evaluations on smooth functions
+ * All of them narrow a range which keeps the time inside it, and answer once it is within the tolerance
+ */
+public interface RootFinder {
+
+    DurationRoot find(DurationRange range, ToDoubleFunction<Duration> function, double target, Convergence convergence);
+
+    /**
+     * Halves the range, the same way DurationBisection does, and answers with the middle of the last range
+     * @return
+     */
+    static RootFinder bisection() {
+        return BisectionFinder.INSTANCE;
+    }
+
+    /**
+     * Follows the line through its last two guesses, a short step is checked by a probe on the other side of the guess
+     * Guesses falling outside the range known to hold the time, or on its bounds, step a tolerance into it
+     * @return
+     */
+    static RootFinder secant() {
+        return SecantFinder.INSTANCE;
+    }
+
+    /**
+     * Regula falsi, halving the value kept at a bound which stayed for two evaluations in a row
+     * So both bounds keep moving, and the range narrows down to the tolerance
+     * @return
+     */
+    static RootFinder illinois() {
+        return IllinoisFinder.INSTANCE;
+    }
+
+    /**
+     * Brent's method - inverse quadratic interpolation and secant steps, with bisection when they do not narrow the range fast enough
+     * @return
+     */
+    static RootFinder brent() {
+        return BrentFinder.INSTANCE;
+    }
+}
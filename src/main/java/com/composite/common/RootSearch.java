@@ -0,0 +1,82 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * One search for the time at which a growing function reaches the target, counting the evaluations
+ * Values are the function minus the target, negative before the time and not negative from it on
+ */
+class RootSearch {
+    private final ToDoubleFunction<Duration> function;
+    private final double target;
+    private final Convergence convergence;
+    private int iterations;
+
+    RootSearch(ToDoubleFunction<Duration> function, double target, Convergence convergence) {
+        this.function = function;
+        this.target = target;
+        this.convergence = convergence;
+    }
+
+    /**
+     * The function itself, for bisection comparing it with the target as DurationBisection does
+     */
+    double functionAt(long nanos) {
+        this.iterations++;
+        return this.function.applyAsDouble(Duration.ofNanos(nanos));
+    }
+
+    double valueAt(long nanos) {
+        return this.functionAt(nanos) - this.target;
+    }
+
+    boolean reaches(double function) {
+        return Double.compare(function, this.target) >= 0;
+    }
+
+    boolean isNarrow(long lowNanos, long highNanos) {
+        return this.convergence.isNarrow(lowNanos, highNanos);
+    }
+
+    long toleranceNanos(long nanos) {
+        return this.convergence.toleranceNanos(nanos);
+    }
+
+    boolean isClose(double value) {
+        return this.convergence.isClose(value);
+    }
+
+    boolean isExhausted() {
+        return this.convergence.isExhausted(this.iterations);
+    }
+
+    DurationRoot converged(long nanos) {
+        return new DurationRoot(nanos, this.iterations, true);
+    }
+
+    /**
+     * Converged unless the search ran out of iterations
+     */
+    DurationRoot stopped(long nanos, boolean narrow) {
+        return new DurationRoot(nanos, this.iterations, narrow);
+    }
+
+    static long middle(long lowNanos, long highNanos) {
+        return (lowNanos + highNanos) / 2;
+    }
+
+    /**
+     * Point of the straight line through both points where it crosses zero, at least a tolerance inside the bounds
+     * A guess on a bound, or next to it, steps a tolerance into the range instead, as Numerical Recipes does
+     * Right after an exact hit, that step lands on the other side of the time and the range is narrow
+     * Falls back to the middle only when the range is too short for a tolerance from both bounds
+     */
+    long interpolate(long x0, double f0, long x1, double f1, long lowNanos, long highNanos) {
+        long x = f1 == f0 ? lowNanos : Math.round(x1 - f1 * ((double) x1 - x0) / (f1 - f0));
+        long tolerance = Math.max(this.toleranceNanos(x1), 1);
+        long from = lowNanos + tolerance;
+        long to = highNanos - tolerance;
+        return from <= to ? Math.max(from, Math.min(to, x)) : middle(lowNanos, highNanos);
+    }
+}
@@ -0,0 +1,78 @@
+package com.composite.common;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+class SecantFinder implements RootFinder {
+    static final SecantFinder INSTANCE = new SecantFinder();
+
+    private SecantFinder() {
+    }
+
+    /**
+     * The range holding the time is kept alongside the guesses, to catch guesses falling out of it and to tell when to stop
+     */
+    @Override
+    public DurationRoot find(DurationRange range, ToDoubleFunction<Duration> function, double target,
+                             Convergence convergence) {
+        RootSearch search = new RootSearch(function, target, convergence);
+        long low = range.getLowNanos();
+        long high = range.getHighNanos();
+        double lowValue = search.valueAt(low);
+        if (lowValue >= 0) {
+            return search.converged(low);
+        }
+        double highValue = search.valueAt(high);
+        if (highValue < 0) {
+            return search.stopped(high, false);
+        }
+        long previous = low;
+        double previousValue = lowValue;
+        long last = high;
+        double lastValue = highValue;
+        while (!search.isNarrow(low, high)) {
+            if (search.isExhausted()) {
+                return search.stopped(last, false);
+            }
+            long next = search.interpolate(previous, previousValue, last, lastValue, low, high);
+            double value = search.valueAt(next);
+            if (search.isClose(value)) {
+                return search.converged(next);
+            }
+            if (value >= 0) {
+                high = next;
+            } else {
+                low = next;
+            }
+            previous = last;
+            previousValue = lastValue;
+            last = next;
+            lastValue = value;
+            if (Math.abs(last - previous) <= search.toleranceNanos(last)) {
+                // a short step only tells the guesses settled, on a flat stretch of the function they settle far from the time
+                // a probe a tolerance away, on the other side of the guess, tells whether the time is in between
+                long probe = lastValue >= 0
+                        ? last - search.toleranceNanos(last)
+                        : last + search.toleranceNanos(last);
+                if (probe > low && probe < high && !search.isExhausted()) {
+                    double probeValue = search.valueAt(probe);
+                    if (probeValue >= 0) {
+                        high = probe;
+                    } else {
+                        low = probe;
+                    }
+                    previous = last;
+                    previousValue = lastValue;
+                    last = probe;
+                    lastValue = probeValue;
+                }
+            }
+        }
+        return search.converged(RootSearch.middle(low, high));
+    }
+
+    @Override
+    public String toString() {
+        return "secant";
+    }
+}
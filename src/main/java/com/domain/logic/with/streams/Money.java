@@ -16,6 +16,19 @@ public class Money implements Comparable<Money> {
         this.amount = amount.setScale(2, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Hot paths calculate in whole cents and only build Money when handing the result out
+     * @param cents
+     * @return
+     */
+    public static Money ofCents(long cents) {
+        return new Money(BigDecimal.valueOf(cents, 2));
+    }
+
+    public long toCents() {
+        return this.getAmount().unscaledValue().longValueExact();
+    }
+
     public Money scale(long multiply, long divide) {
         return this.scale(new BigDecimal(multiply), new BigDecimal(divide));
     }
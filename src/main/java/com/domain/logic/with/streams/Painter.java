@@ -1,12 +1,14 @@
 package com.domain.logic.with.streams;
 
+import com.composite.Quote;
+import com.composite.SqMetersEnvelope;
 import com.composite.Velocity;
 import com.composite.WorkAssignment;
 
-import javax.xml.bind.ValidationEventLocator;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 public interface Painter {
@@ -45,7 +47,67 @@ public interface Painter {
         return new PaintersStream(painters.stream());
     }
 
+    /**
+     * Streams painters in parallel when the crew is large enough for the given parallelism
+     */
+    static PaintersStream stream(List<Painter> painters, Parallelism parallelism) {
+        return new PaintersStream(parallelism.stream(painters));
+    }
+
     default Velocity estimateVelocity(double sqMeters) {
-        return new Velocity(sqMeters, this.estimateTimeToPaint(sqMeters));
+        return new Velocity(this.estimateSqMetersPerSecond(sqMeters));
+    }
+
+    /**
+     * Primitive counterparts of the estimates, for the hot paths of schedulers
+     * Painters override them to calculate without building Duration and Money on every step
+     * @param sqMeters
+     * @return
+     */
+    default long estimateNanosToPaint(double sqMeters) {
+        return this.estimateTimeToPaint(sqMeters).toNanos();
+    }
+
+    default long estimateCompensationCents(double sqMeters) {
+        return this.estimateCompensation(sqMeters).toCents();
+    }
+
+    /**
+     * Time and cost of the same job together
+     * Composite painters override it to schedule their crew once for both
+     * @param sqMeters
+     * @return
+     */
+    default Quote quote(double sqMeters) {
+        return Quote.of(sqMeters, this.estimateNanosToPaint(sqMeters), this.estimateCompensationCents(sqMeters));
+    }
+
+    /**
+     * Velocity counts whole seconds only, the way Velocity did when built from a Duration
+     * @param sqMeters
+     * @return
+     */
+    default double estimateSqMetersPerSecond(double sqMeters) {
+        return sqMeters / (double) Math.floorDiv(this.estimateNanosToPaint(sqMeters), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Inverse of estimateSqMeters - the shortest time after which this painter has covered sqMeters
+     * Only painters knowing it analytically answer, the others leave callers to search for the time
+     * @param sqMeters
+     * @return
+     */
+    default Optional<Duration> timeForSqMeters(double sqMeters) {
+        return Optional.empty();
+    }
+
+    /**
+     * Area covered as a piecewise linear function of time, up to the horizon
+     * Envelopes of many painters add up, so a crew can be inverted as a whole
+     * @param horizon
+     * @return
+     */
+    default Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        return Optional.empty();
     }
 }
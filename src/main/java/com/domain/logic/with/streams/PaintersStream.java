@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 
 /**
@@ -38,15 +39,27 @@ public class PaintersStream implements ForwardingStream<Painter> {
         );
     }
 
+    /**
+     * Parallel streams estimate each painter on its own core, but add the areas up in the order of painters
+     * Summing doubles in a different order would give a slightly different total
+     * @param time
+     * @return
+     */
     public double estimateSqMeters(Duration time) {
-        return this.getStream().mapToDouble(painter -> painter.estimateSqMeters(time))
-                .sum();
+        DoubleStream sqMeters = this.getStream().mapToDouble(painter -> painter.estimateSqMeters(time));
+        return this.isParallel()
+                ? DoubleStream.of(sqMeters.toArray()).sum()
+                : sqMeters.sum();
     }
 
     public OptionalPainter workTogether(PaintingScheduler scheduler) {
         return CompositePainter.of(this.stream.collect(Collectors.toList()), scheduler);
     }
 
+    public OptionalPainter workTogether(PaintingScheduler scheduler, Parallelism parallelism) {
+        return CompositePainter.of(this.stream.collect(Collectors.toList()), scheduler, parallelism);
+    }
+
     public WorkStream assign(Duration time) {
         return WorkAssignment.stream(this.getStream()
                 .map(painter -> painter.assign(painter.estimateSqMeters(time))));
@@ -68,6 +81,17 @@ public class PaintersStream implements ForwardingStream<Painter> {
         return new DurationStream(this.getStream().map(painter -> painter.estimateTimeToPaint(sqMeters)));
     }
 
+    /**
+     * Time each painter alone needs to cover sqMeters, analytic when the painter knows it
+     * @param sqMeters
+     * @return
+     */
+    public DurationStream timesForSqMeters(double sqMeters) {
+        return new DurationStream(this.getStream().map(painter -> painter
+                .timeForSqMeters(sqMeters)
+                .orElseGet(() -> painter.estimateTimeToPaint(sqMeters))));
+    }
+
     /**
      * This logic is encapsulated and not exposed to external
      * @param sqMeters
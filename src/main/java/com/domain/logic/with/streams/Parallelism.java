@@ -0,0 +1,58 @@
+package com.domain.logic.with.streams;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tells whether painters are streamed in parallel, on the common fork-join pool
+ * Small crews are not worth splitting, so parallel streams are only used from a threshold size on
+ * Domain methods give the same results either way - only the number of cores working on them changes
+ */
+public class Parallelism {
+    private static final Parallelism SEQUENTIAL = new Parallelism(Integer.MAX_VALUE);
+
+    private final int threshold;
+
+    private Parallelism(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public static Parallelism sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Parallel for crews of at least threshold painters
+     * @param threshold
+     * @return
+     */
+    public static Parallelism atLeast(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        return new Parallelism(threshold);
+    }
+
+    public boolean isParallelFor(int size) {
+        return size >= this.threshold;
+    }
+
+    public <T> Stream<T> stream(List<T> elements) {
+        return this.isParallelFor(elements.size()) ? elements.parallelStream() : elements.stream();
+    }
+
+    public <T> Stream<T> stream(Stream<T> elements, int size) {
+        return this.isParallelFor(size) ? elements.parallel() : elements;
+    }
+
+    public IntStream range(int size) {
+        IntStream indexes = IntStream.range(0, size);
+        return this.isParallelFor(size) ? indexes.parallel() : indexes;
+    }
+
+    @Override
+    public String toString() {
+        return this == SEQUENTIAL ? "sequential" : "parallel from " + this.threshold + " painters";
+    }
+}
@@ -1,7 +1,12 @@
 package com.domain.logic.with.streams;
 
+import com.composite.Quote;
+import com.composite.ScheduleResult;
 import com.composite.WorkAssignment;
+import com.composite.WorkSnapshot;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class WorkStream implements ForwardingStream<WorkAssignment> {
@@ -23,4 +28,43 @@ public class WorkStream implements ForwardingStream<WorkAssignment> {
     public DurationStream timesToPaint() {
         return new DurationStream(this.stream.map(WorkAssignment::estimateTimeToPaint));
     }
+
+    /**
+     * Sum of compensations in cents, the same as summing Money but without building it
+     * @return
+     */
+    public long totalCompensationCents() {
+        return this.stream.mapToLong(WorkAssignment::estimateCompensationCents).reduce(0, Math::addExact);
+    }
+
+    /**
+     * Longest time to paint in nanoseconds, the stream must not be empty
+     * @return
+     */
+    public long maxNanosToPaint() {
+        return this.stream.mapToLong(WorkAssignment::estimateNanosToPaint).max().getAsLong();
+    }
+
+    /**
+     * Materializes the schedule and quotes every assignment once, in parallel when the stream is parallel
+     * Time, cost and assignments are then all read from the result, without scheduling again
+     * @return
+     */
+    public ScheduleResult evaluate() {
+        boolean parallel = this.stream.isParallel();
+        List<WorkAssignment> assignments = this.stream.collect(Collectors.toList());
+        List<Quote> quotes = (parallel ? assignments.parallelStream() : assignments.stream())
+                .map(WorkAssignment::quote)
+                .collect(Collectors.toList());
+        return ScheduleResult.of(assignments, quotes);
+    }
+
+    /**
+     * Materializes the schedule into arrays, quoting every assignment once
+     * The snapshot can be read, sliced and streamed again as many times as needed
+     * @return
+     */
+    public WorkSnapshot snapshot() {
+        return WorkSnapshot.of(this);
+    }
 }
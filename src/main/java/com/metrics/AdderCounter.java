@@ -0,0 +1,28 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Threads counting at once add to cells of their own, the count sums the cells
+ */
+class AdderCounter implements Counter {
+    private final LongAdder count = new LongAdder();
+
+    @Override
+    public void increment() {
+        this.count.increment();
+    }
+
+    @Override
+    public void add(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Counters only grow: " + amount);
+        }
+        this.count.add(amount);
+    }
+
+    @Override
+    public long count() {
+        return this.count.sum();
+    }
+}
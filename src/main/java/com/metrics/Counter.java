@@ -0,0 +1,17 @@
+package com.metrics;
+
+/**
+ * Count of events which only grows, such as calls or hits
+ * Many threads may count at once without waiting on each other
+ */
+public interface Counter {
+    Counter NONE = new VoidCounter();
+
+    default void increment() {
+        this.add(1);
+    }
+
+    void add(long amount);
+
+    long count();
+}
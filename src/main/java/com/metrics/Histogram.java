@@ -0,0 +1,21 @@
+package com.metrics;
+
+/**
+ * Distribution of recorded values, such as nanoseconds spent in a call or iterations of a search
+ * Values are not kept, only how many of them fell into each bucket
+ */
+public interface Histogram {
+    Histogram NONE = new VoidHistogram();
+
+    void record(long value);
+
+    /**
+     * Records the nanoseconds passed since the start, as System.nanoTime told it
+     * @param startNanos
+     */
+    default void recordSince(long startNanos) {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+    HistogramSnapshot snapshot();
+}
@@ -0,0 +1,71 @@
+package com.metrics;
+
+/**
+ * Recorded values of a histogram at one moment
+ * Quantiles are told as the highest value of the bucket they fall into, at most the largest value recorded
+ */
+public class HistogramSnapshot {
+    static final HistogramSnapshot EMPTY = new HistogramSnapshot(new long[0], 0, 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    private HistogramSnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    static HistogramSnapshot of(long[] counts, long sum, long max) {
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        return new HistogramSnapshot(counts, count, sum, max);
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getSum() {
+        return this.sum;
+    }
+
+    public long getMax() {
+        return this.max;
+    }
+
+    public double getMean() {
+        return this.count == 0 ? 0 : (double) this.sum / this.count;
+    }
+
+    /**
+     * Value which the given share of recorded values does not exceed, zero when nothing was recorded
+     * @param quantile between 0 and 1
+     * @return
+     */
+    public long valueAt(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile out of range: " + quantile);
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+        long seen = 0;
+        for (int bucket = 0; bucket < this.counts.length; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LogLinearHistogram.upperBoundOf(bucket), this.max);
+            }
+        }
+        return this.max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count %d, mean %.1f, p50 %d, p99 %d, max %d",
+                this.count, this.getMean(), this.valueAt(0.5), this.valueAt(0.99), this.max);
+    }
+}
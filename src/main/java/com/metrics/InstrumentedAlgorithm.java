@@ -0,0 +1,49 @@
+package com.metrics;
+
+import com.refactoring.ControlDigitAlgorithm;
+import com.refactoring.StraightNumber;
+
+/**
+ * Decorator counting the control digits the algorithm it wraps calculated, and the numbers it rejected
+ * Digits take a few nanoseconds, so they are counted rather than timed, reading the clock would cost more
+ */
+class InstrumentedAlgorithm implements ControlDigitAlgorithm {
+    private final ControlDigitAlgorithm algorithm;
+    private final Counter digits;
+    private final Counter rejected;
+
+    InstrumentedAlgorithm(MetricsRegistry registry, String component, ControlDigitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        this.digits = registry.counter("algorithm_digits_total", component);
+        this.rejected = registry.counter("algorithm_rejected_total", component);
+    }
+
+    @Override
+    public int getControlDigit(StraightNumber number) {
+        try {
+            int digit = this.algorithm.getControlDigit(number);
+            this.digits.increment();
+            return digit;
+        } catch (IllegalArgumentException e) {
+            this.rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getControlDigit(int number) {
+        try {
+            int digit = this.algorithm.getControlDigit(number);
+            this.digits.increment();
+            return digit;
+        } catch (IllegalArgumentException e) {
+            this.rejected.increment();
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.algorithm.toString();
+    }
+}
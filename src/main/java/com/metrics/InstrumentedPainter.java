@@ -0,0 +1,124 @@
+package com.metrics;
+
+import com.composite.Quote;
+import com.composite.SqMetersEnvelope;
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decorator timing the estimates of the painter it wraps, each kind of estimate into a histogram of its own
+ * Estimates in Duration and Money share their histograms with their primitive counterparts
+ */
+class InstrumentedPainter implements Painter {
+    private final MetricsRegistry registry;
+    private final String component;
+    private final Painter painter;
+    private final Histogram timesToPaint;
+    private final Histogram compensations;
+    private final Histogram sqMeters;
+    private final Histogram timesForSqMeters;
+    private final Histogram quotes;
+    private final Histogram envelopes;
+
+    InstrumentedPainter(MetricsRegistry registry, String component, Painter painter) {
+        this.registry = registry;
+        this.component = component;
+        this.painter = painter;
+        this.timesToPaint = registry.histogram("painter_time_to_paint_nanos", component);
+        this.compensations = registry.histogram("painter_compensation_nanos", component);
+        this.sqMeters = registry.histogram("painter_sq_meters_nanos", component);
+        this.timesForSqMeters = registry.histogram("painter_time_for_sq_meters_nanos", component);
+        this.quotes = registry.histogram("painter_quote_nanos", component);
+        this.envelopes = registry.histogram("painter_envelope_nanos", component);
+    }
+
+    /**
+     * The same painter being available keeps this decorator, any other painter gets one of the same component
+     * @return
+     */
+    @Override
+    public OptionalPainter available() {
+        return this.painter.available()
+                .mapPainter(available -> available == this.painter
+                        ? this
+                        : new InstrumentedPainter(this.registry, this.component, available));
+    }
+
+    @Override
+    public Duration estimateTimeToPaint(double sqMeters) {
+        long start = System.nanoTime();
+        Duration time = this.painter.estimateTimeToPaint(sqMeters);
+        this.timesToPaint.recordSince(start);
+        return time;
+    }
+
+    @Override
+    public long estimateNanosToPaint(double sqMeters) {
+        long start = System.nanoTime();
+        long nanos = this.painter.estimateNanosToPaint(sqMeters);
+        this.timesToPaint.recordSince(start);
+        return nanos;
+    }
+
+    @Override
+    public Money estimateCompensation(double sqMeters) {
+        long start = System.nanoTime();
+        Money compensation = this.painter.estimateCompensation(sqMeters);
+        this.compensations.recordSince(start);
+        return compensation;
+    }
+
+    @Override
+    public long estimateCompensationCents(double sqMeters) {
+        long start = System.nanoTime();
+        long cents = this.painter.estimateCompensationCents(sqMeters);
+        this.compensations.recordSince(start);
+        return cents;
+    }
+
+    @Override
+    public Quote quote(double sqMeters) {
+        long start = System.nanoTime();
+        Quote quote = this.painter.quote(sqMeters);
+        this.quotes.recordSince(start);
+        return quote;
+    }
+
+    @Override
+    public String getName() {
+        return this.painter.getName();
+    }
+
+    @Override
+    public double estimateSqMeters(Duration time) {
+        long start = System.nanoTime();
+        double covered = this.painter.estimateSqMeters(time);
+        this.sqMeters.recordSince(start);
+        return covered;
+    }
+
+    @Override
+    public Optional<Duration> timeForSqMeters(double sqMeters) {
+        long start = System.nanoTime();
+        Optional<Duration> time = this.painter.timeForSqMeters(sqMeters);
+        this.timesForSqMeters.recordSince(start);
+        return time;
+    }
+
+    @Override
+    public Optional<SqMetersEnvelope> estimateEnvelope(Duration horizon) {
+        long start = System.nanoTime();
+        Optional<SqMetersEnvelope> envelope = this.painter.estimateEnvelope(horizon);
+        this.envelopes.recordSince(start);
+        return envelope;
+    }
+
+    @Override
+    public String toString() {
+        return this.painter.toString();
+    }
+}
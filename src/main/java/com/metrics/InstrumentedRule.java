@@ -0,0 +1,68 @@
+package com.metrics;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.states.DeviceStatus;
+
+import java.util.Optional;
+
+/**
+ * Decorator counting how often the rule it wraps was asked, and how often it had an action for the status
+ * Actions found are wrapped to time them as they are applied
+ * Applying through applyTo keeps the fast path of compiled rules, the time of a hit then includes finding its action
+ * Compiling the rule compiles the wrapped one and keeps recording to the same metrics
+ */
+class InstrumentedRule implements ClaimingRule {
+    private final MetricsRegistry registry;
+    private final String component;
+    private final ClaimingRule rule;
+    private final Counter evaluations;
+    private final Counter hits;
+    private final Histogram actions;
+
+    InstrumentedRule(MetricsRegistry registry, String component, ClaimingRule rule) {
+        this.registry = registry;
+        this.component = component;
+        this.rule = rule;
+        this.evaluations = registry.counter("rule_evaluations_total", component);
+        this.hits = registry.counter("rule_hits_total", component);
+        this.actions = registry.histogram("rule_action_nanos", component);
+    }
+
+    @Override
+    public Optional<Action> applicableTo(DeviceStatus status) {
+        this.evaluations.increment();
+        Optional<Action> action = this.rule.applicableTo(status);
+        if (!action.isPresent()) {
+            return action;
+        }
+        this.hits.increment();
+        return action.map(this::timed);
+    }
+
+    private Action timed(Action action) {
+        return () -> {
+            long start = System.nanoTime();
+            action.apply();
+            this.actions.recordSince(start);
+        };
+    }
+
+    @Override
+    public boolean applyTo(DeviceStatus status) {
+        this.evaluations.increment();
+        long start = System.nanoTime();
+        boolean applied = this.rule.applyTo(status);
+        if (applied) {
+            this.actions.recordSince(start);
+            this.hits.increment();
+        }
+        return applied;
+    }
+
+    @Override
+    public ClaimingRule compile() {
+        ClaimingRule compiled = this.rule.compile();
+        return compiled == this.rule ? this : new InstrumentedRule(this.registry, this.component, compiled);
+    }
+}
@@ -0,0 +1,69 @@
+package com.metrics;
+
+import com.composite.PainterRegistry;
+import com.composite.PaintingScheduler;
+import com.composite.ScheduleResult;
+import com.composite.SchedulingSession;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+
+import java.util.List;
+
+/**
+ * Decorator timing the schedules of the scheduler it wraps, and recording how many painters each of them had
+ * Schedules only work out the assignments as far as the scheduler does before returning the stream
+ * Sessions are opened on the wrapped scheduler and only counted, adjusting them is left to the scheduler
+ */
+class InstrumentedScheduler implements PaintingScheduler {
+    private final PaintingScheduler scheduler;
+    private final Histogram schedules;
+    private final Histogram evaluations;
+    private final Histogram crewSizes;
+    private final Counter sessions;
+
+    InstrumentedScheduler(MetricsRegistry registry, String component, PaintingScheduler scheduler) {
+        this.scheduler = scheduler;
+        this.schedules = registry.histogram("scheduler_schedule_nanos", component);
+        this.evaluations = registry.histogram("scheduler_evaluate_nanos", component);
+        this.crewSizes = registry.histogram("scheduler_crew_size", component);
+        this.sessions = registry.counter("scheduler_sessions_total", component);
+    }
+
+    @Override
+    public WorkStream schedule(List<Painter> painters, double sqMeters) {
+        long start = System.nanoTime();
+        WorkStream schedule = this.scheduler.schedule(painters, sqMeters);
+        this.schedules.recordSince(start);
+        this.crewSizes.record(painters.size());
+        return schedule;
+    }
+
+    @Override
+    public WorkStream schedule(PainterRegistry registry, double sqMeters) {
+        long start = System.nanoTime();
+        WorkStream schedule = this.scheduler.schedule(registry, sqMeters);
+        this.schedules.recordSince(start);
+        this.crewSizes.record(registry.getPainters().size());
+        return schedule;
+    }
+
+    @Override
+    public ScheduleResult evaluate(List<Painter> painters, double sqMeters) {
+        long start = System.nanoTime();
+        ScheduleResult result = this.scheduler.evaluate(painters, sqMeters);
+        this.evaluations.recordSince(start);
+        this.crewSizes.record(painters.size());
+        return result;
+    }
+
+    @Override
+    public SchedulingSession open(List<Painter> painters, double sqMeters) {
+        this.sessions.increment();
+        return this.scheduler.open(painters, sqMeters);
+    }
+
+    @Override
+    public String toString() {
+        return this.scheduler.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with buckets growing with the values, the way HdrHistogram lays them out
+ * Values below 64 have a bucket each, every power of two above is split into 32 buckets of equal width
+ * So a bucket is never wider than a thirty-second of the values in it, from nanoseconds to centuries
+ * Recording is an increment of one bucket and of the sum, without locks or allocation
+ */
+class LogLinearHistogram implements Histogram {
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int EXACT = 2 * SUB_BUCKETS;
+    static final int BUCKETS = EXACT + (Long.SIZE - 1 - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        this.counts.incrementAndGet(bucketOf(value));
+        this.sum.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Buckets are copied one by one while others record, the count is that of the buckets copied
+     * @return
+     */
+    @Override
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = this.counts.get(bucket);
+        }
+        return HistogramSnapshot.of(counts, this.sum.sum(), this.max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return EXACT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Highest value falling into the bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT) / SUB_BUCKETS + 1;
+        long subBucket = SUB_BUCKETS + (bucket - EXACT) % SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
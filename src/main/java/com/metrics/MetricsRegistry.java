@@ -0,0 +1,100 @@
+package com.metrics;
+
+import com.composite.PaintingScheduler;
+import com.domain.logic.with.streams.Painter;
+import com.multiway.branching.ClaimingRule;
+import com.refactoring.ControlDigitAlgorithm;
+
+/**
+ * Counters and histograms by name and by the component they measure, such as a painter or a link of a rule chain
+ * Components are instrumented by wrapping them into decorators which record to this registry
+ * The registry which records nothing leaves components as they are, so instrumented code costs nothing when disabled
+ * Other registries, passing the metrics on to a monitoring system, only need to tell their counters and histograms
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Records nothing, and decorates nothing
+     * @return
+     */
+    static MetricsRegistry none() {
+        return VoidRegistry.INSTANCE;
+    }
+
+    /**
+     * Keeps its metrics in memory, until a snapshot tells them
+     * @return
+     */
+    static MetricsRegistry recording() {
+        return new RecordingRegistry();
+    }
+
+    /**
+     * Same counter for the same name and component, created on first use
+     * Names follow the Prometheus rules - letters, digits, underscores and colons, not starting with a digit
+     * @param name
+     * @param component
+     * @return
+     */
+    Counter counter(String name, String component);
+
+    /**
+     * Same histogram for the same name and component, created on first use
+     * @param name
+     * @param component
+     * @return
+     */
+    Histogram histogram(String name, String component);
+
+    MetricsSnapshot snapshot();
+
+    default Counter counter(String name) {
+        return this.counter(name, "");
+    }
+
+    default Histogram histogram(String name) {
+        return this.histogram(name, "");
+    }
+
+    /**
+     * Times every estimate of the painter, and of the painters it becomes when available
+     * @param component
+     * @param painter
+     * @return
+     */
+    default Painter painter(String component, Painter painter) {
+        return new InstrumentedPainter(this, component, painter);
+    }
+
+    /**
+     * Times every schedule, and tells the size of the crews scheduled
+     * Composite painters at each level of a crew can be given a scheduler of their own component
+     * @param component
+     * @param scheduler
+     * @return
+     */
+    default PaintingScheduler scheduler(String component, PaintingScheduler scheduler) {
+        return new InstrumentedScheduler(this, component, scheduler);
+    }
+
+    /**
+     * Counts evaluations and hits of the rule, and times the actions it applies
+     * Each link of a chain can be instrumented as a component of its own
+     * @param component
+     * @param rule
+     * @return
+     */
+    default ClaimingRule rule(String component, ClaimingRule rule) {
+        return new InstrumentedRule(this, component, rule);
+    }
+
+    /**
+     * Counts control digits the algorithm calculated, and numbers it rejected
+     * @param component
+     * @param algorithm
+     * @return
+     */
+    default ControlDigitAlgorithm algorithm(String component, ControlDigitAlgorithm algorithm) {
+        return new InstrumentedAlgorithm(this, component, algorithm);
+    }
+}
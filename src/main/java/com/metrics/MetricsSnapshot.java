@@ -0,0 +1,91 @@
+package com.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Values of all metrics of a registry at one moment, sorted by name and then by component
+ * Printed in the Prometheus text exposition format, histograms as summaries with a few quantiles
+ */
+public class MetricsSnapshot {
+    static final MetricsSnapshot EMPTY = new MetricsSnapshot(Collections.emptyMap(), Collections.emptyMap());
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, Map<String, Long>> counts;
+    private final Map<String, Map<String, HistogramSnapshot>> histograms;
+
+    MetricsSnapshot(Map<String, Map<String, Long>> counts, Map<String, Map<String, HistogramSnapshot>> histograms) {
+        this.counts = counts;
+        this.histograms = histograms;
+    }
+
+    /**
+     * Count of the counter, zero for a counter never used
+     * @param name
+     * @param component
+     * @return
+     */
+    public long getCount(String name, String component) {
+        return this.counts.getOrDefault(name, Collections.emptyMap()).getOrDefault(component, 0L);
+    }
+
+    public Optional<HistogramSnapshot> getHistogram(String name, String component) {
+        return Optional.ofNullable(this.histograms.getOrDefault(name, Collections.emptyMap()).get(component));
+    }
+
+    public Map<String, Map<String, Long>> getCounts() {
+        return Collections.unmodifiableMap(this.counts);
+    }
+
+    public Map<String, Map<String, HistogramSnapshot>> getHistograms() {
+        return Collections.unmodifiableMap(this.histograms);
+    }
+
+    /**
+     * Text exposition format, a line per counter and per statistic of each histogram
+     * @return
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        this.counts.forEach((name, byComponent) -> {
+            text.append("# TYPE ").append(name).append(" counter\n");
+            byComponent.forEach((component, count) -> line(text, name, component, "", count));
+        });
+        this.histograms.forEach((name, byComponent) -> {
+            text.append("# TYPE ").append(name).append(" summary\n");
+            byComponent.forEach((component, histogram) -> {
+                for (double quantile : QUANTILES) {
+                    line(text, name, component, "quantile=\"" + quantile + "\"", histogram.valueAt(quantile));
+                }
+                line(text, name + "_sum", component, "", histogram.getSum());
+                line(text, name + "_count", component, "", histogram.getCount());
+            });
+        });
+        return text.toString();
+    }
+
+    private static void line(StringBuilder text, String name, String component, String label, long value) {
+        text.append(name);
+        if (!component.isEmpty() || !label.isEmpty()) {
+            text.append('{');
+            if (!component.isEmpty()) {
+                text.append("component=\"").append(escape(component)).append('"');
+            }
+            if (!component.isEmpty() && !label.isEmpty()) {
+                text.append(',');
+            }
+            text.append(label).append('}');
+        }
+        text.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    @Override
+    public String toString() {
+        return this.toText();
+    }
+}
@@ -0,0 +1,67 @@
+package com.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry keeping counters and histograms in memory, by name and then by component
+ * Decorators look their metrics up once when created, recording does not go through the maps
+ */
+class RecordingRegistry implements MetricsRegistry {
+    private static final Pattern NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Counter>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Histogram>> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name, String component) {
+        return this.counters
+                .computeIfAbsent(this.checkName(name, this.histograms), ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(component, ignored -> new AdderCounter());
+    }
+
+    @Override
+    public Histogram histogram(String name, String component) {
+        return this.histograms
+                .computeIfAbsent(this.checkName(name, this.counters), ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(component, ignored -> new LogLinearHistogram());
+    }
+
+    /**
+     * A name stands for one kind of metric only
+     */
+    private String checkName(String name, Map<String, ?> otherKind) {
+        if (!NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        if (otherKind.containsKey(name)) {
+            throw new IllegalArgumentException("Metric " + name + " is of another kind");
+        }
+        return name;
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        Map<String, Map<String, Long>> counts = new TreeMap<>();
+        this.counters.forEach((name, byComponent) -> {
+            Map<String, Long> components = new TreeMap<>();
+            byComponent.forEach((component, counter) -> components.put(component, counter.count()));
+            counts.put(name, components);
+        });
+        Map<String, Map<String, HistogramSnapshot>> distributions = new TreeMap<>();
+        this.histograms.forEach((name, byComponent) -> {
+            Map<String, HistogramSnapshot> components = new TreeMap<>();
+            byComponent.forEach((component, histogram) -> components.put(component, histogram.snapshot()));
+            distributions.put(name, components);
+        });
+        return new MetricsSnapshot(counts, distributions);
+    }
+
+    @Override
+    public String toString() {
+        return "metrics recorded in memory";
+    }
+}
@@ -0,0 +1,22 @@
+package com.metrics;
+
+/**
+ * Histogram of a registry which records nothing, it stays empty
+ */
+class VoidHistogram implements Histogram {
+
+    @Override
+    public void record(long value) {
+
+    }
+
+    @Override
+    public void recordSince(long startNanos) {
+
+    }
+
+    @Override
+    public HistogramSnapshot snapshot() {
+        return HistogramSnapshot.EMPTY;
+    }
+}
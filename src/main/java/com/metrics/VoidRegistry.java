@@ -0,0 +1,56 @@
+package com.metrics;
+
+import com.composite.PaintingScheduler;
+import com.domain.logic.with.streams.Painter;
+import com.multiway.branching.ClaimingRule;
+import com.refactoring.ControlDigitAlgorithm;
+
+/**
+ * Registry of disabled metrics - components stay undecorated, counters and histograms do nothing
+ */
+class VoidRegistry implements MetricsRegistry {
+    static final VoidRegistry INSTANCE = new VoidRegistry();
+
+    private VoidRegistry() {
+    }
+
+    @Override
+    public Counter counter(String name, String component) {
+        return Counter.NONE;
+    }
+
+    @Override
+    public Histogram histogram(String name, String component) {
+        return Histogram.NONE;
+    }
+
+    @Override
+    public MetricsSnapshot snapshot() {
+        return MetricsSnapshot.EMPTY;
+    }
+
+    @Override
+    public Painter painter(String component, Painter painter) {
+        return painter;
+    }
+
+    @Override
+    public PaintingScheduler scheduler(String component, PaintingScheduler scheduler) {
+        return scheduler;
+    }
+
+    @Override
+    public ClaimingRule rule(String component, ClaimingRule rule) {
+        return rule;
+    }
+
+    @Override
+    public ControlDigitAlgorithm algorithm(String component, ControlDigitAlgorithm algorithm) {
+        return algorithm;
+    }
+
+    @Override
+    public String toString() {
+        return "no metrics";
+    }
+}
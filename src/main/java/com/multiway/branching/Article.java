@@ -31,6 +31,22 @@ public class Article {
         return expressWarranty;
     }
 
+    Warranty getEffectiveExpressWarranty() {
+        return this.effectiveExpressWarranty;
+    }
+
+    Optional<Part> getSensor() {
+        return this.sensor;
+    }
+
+    /**
+     * Warranty the sensor was installed with, getExtendedWarranty tells what it offers once the sensor fails
+     * @return
+     */
+    Warranty getSensorWarranty() {
+        return this.extendedWarranty;
+    }
+
     public Warranty getExtendedWarranty() {
 //        return this.sensor == null ? Warranty.VOID : this.sensor.apply(this.extendedWarranty);
         return this.sensor.map(thisSensor -> thisSensor.apply(this.expressWarranty)).orElse(Warranty.VOID);
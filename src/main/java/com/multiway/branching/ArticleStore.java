@@ -0,0 +1,326 @@
+package com.multiway.branching;
+
+import com.domain.logic.with.streams.Parallelism;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Fleet of articles kept column by column, every article is a row of epoch days
+ * Each warranty takes a column of first days and a column of last days, the sensor one of installation and one of defect days
+ * Transitions change the rows in place, and claims are worked out for the whole fleet at once, without an Article per row
+ * Both behave exactly as the same transitions and claims on Article objects
+ * Columns are int arrays, or memory outside the heap, sized for the fleet when the store is created
+ * Transitions are not safe to run concurrently with anything else on the same store
+ */
+public class ArticleStore {
+    private static final int NONE = Integer.MIN_VALUE;
+    private static final int VOID_FROM = Integer.MAX_VALUE;
+    private static final int VOID_TO = Integer.MIN_VALUE;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final int size;
+    private final DayColumn moneyBackFrom;
+    private final DayColumn moneyBackTo;
+    private final DayColumn expressFrom;
+    private final DayColumn expressTo;
+    private final DayColumn effectiveExpressFrom;
+    private final DayColumn effectiveExpressTo;
+    private final DayColumn sensorWarrantyFrom;
+    private final DayColumn sensorWarrantyTo;
+    private final DayColumn sensorInstalledOn;
+    private final DayColumn sensorDefectDetectedOn;
+    private final Parallelism parallelism;
+
+    private ArticleStore(int size, IntFunction<DayColumn> columns, Parallelism parallelism) {
+        this.size = size;
+        this.moneyBackFrom = columns.apply(size);
+        this.moneyBackTo = columns.apply(size);
+        this.expressFrom = columns.apply(size);
+        this.expressTo = columns.apply(size);
+        this.effectiveExpressFrom = columns.apply(size);
+        this.effectiveExpressTo = columns.apply(size);
+        this.sensorWarrantyFrom = columns.apply(size);
+        this.sensorWarrantyTo = columns.apply(size);
+        this.sensorInstalledOn = columns.apply(size);
+        this.sensorDefectDetectedOn = columns.apply(size);
+        this.parallelism = parallelism;
+    }
+
+    private ArticleStore(ArticleStore store, Parallelism parallelism) {
+        this.size = store.size;
+        this.moneyBackFrom = store.moneyBackFrom;
+        this.moneyBackTo = store.moneyBackTo;
+        this.expressFrom = store.expressFrom;
+        this.expressTo = store.expressTo;
+        this.effectiveExpressFrom = store.effectiveExpressFrom;
+        this.effectiveExpressTo = store.effectiveExpressTo;
+        this.sensorWarrantyFrom = store.sensorWarrantyFrom;
+        this.sensorWarrantyTo = store.sensorWarrantyTo;
+        this.sensorInstalledOn = store.sensorInstalledOn;
+        this.sensorDefectDetectedOn = store.sensorDefectDetectedOn;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Store of the articles in int arrays, each article is the row of its position in the list
+     * @param articles
+     * @return
+     */
+    public static ArticleStore onHeap(List<Article> articles) {
+        return new ArticleStore(articles.size(), DayColumn::onHeap, Parallelism.sequential()).load(articles);
+    }
+
+    /**
+     * Store of the articles in memory outside the heap, each article is the row of its position in the list
+     * @param articles
+     * @return
+     */
+    public static ArticleStore offHeap(List<Article> articles) {
+        return new ArticleStore(articles.size(), DayColumn::offHeap, Parallelism.sequential()).load(articles);
+    }
+
+    /**
+     * Same columns, with claims worked out in parallel for fleets of the given parallelism
+     * The threshold counts blocks of 64 articles, which are the units the fleet is split into
+     * @param parallelism
+     * @return
+     */
+    public ArticleStore in(Parallelism parallelism) {
+        return new ArticleStore(this, parallelism);
+    }
+
+    private ArticleStore load(List<Article> articles) {
+        for (int row = 0; row < articles.size(); row++) {
+            this.set(row, articles.get(row));
+        }
+        return this;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Rows of all articles, to start a selection from
+     * @return
+     */
+    public BitSet all() {
+        BitSet rows = new BitSet(this.size);
+        rows.set(0, this.size);
+        return rows;
+    }
+
+    public Article get(int row) {
+        this.checkRow(row);
+        int installedOn = this.sensorInstalledOn.get(row);
+        int defectDetectedOn = this.sensorDefectDetectedOn.get(row);
+        Optional<Part> sensor = installedOn == NONE ? Optional.empty() : Optional.of(new Part(
+                LocalDate.ofEpochDay(installedOn),
+                defectDetectedOn == NONE ? Optional.empty() : Optional.of(LocalDate.ofEpochDay(defectDetectedOn))));
+        return new Article(
+                warranty(this.moneyBackFrom.get(row), this.moneyBackTo.get(row)),
+                warranty(this.expressFrom.get(row), this.expressTo.get(row)),
+                warranty(this.effectiveExpressFrom.get(row), this.effectiveExpressTo.get(row)),
+                sensor,
+                warranty(this.sensorWarrantyFrom.get(row), this.sensorWarrantyTo.get(row)));
+    }
+
+    public void set(int row, Article article) {
+        this.checkRow(row);
+        setWarranty(this.moneyBackFrom, this.moneyBackTo, row, article.getMoneyBackGuarantee());
+        setWarranty(this.expressFrom, this.expressTo, row, article.getExpressWarranty());
+        setWarranty(this.effectiveExpressFrom, this.effectiveExpressTo, row, article.getEffectiveExpressWarranty());
+        setWarranty(this.sensorWarrantyFrom, this.sensorWarrantyTo, row, article.getSensorWarranty());
+        Optional<Part> sensor = article.getSensor();
+        this.sensorInstalledOn.set(row, sensor.map(part -> toDay(part.getInstallmentDate())).orElse(NONE));
+        this.sensorDefectDetectedOn.set(row, sensor
+                .flatMap(Part::getDefectDetectedOn)
+                .map(ArticleStore::toDay)
+                .orElse(NONE));
+    }
+
+    /**
+     * Same as Article.withVisibilityDamage on every row
+     * @param rows
+     */
+    public void withVisibilityDamage(BitSet rows) {
+        for (int row = this.firstOf(rows); row >= 0; row = rows.nextSetBit(row + 1)) {
+            this.moneyBackFrom.set(row, VOID_FROM);
+            this.moneyBackTo.set(row, VOID_TO);
+        }
+    }
+
+    /**
+     * Same as Article.notOperational on every row
+     * @param rows
+     */
+    public void notOperational(BitSet rows) {
+        for (int row = this.firstOf(rows); row >= 0; row = rows.nextSetBit(row + 1)) {
+            this.effectiveExpressFrom.set(row, this.expressFrom.get(row));
+            this.effectiveExpressTo.set(row, this.expressTo.get(row));
+        }
+    }
+
+    /**
+     * Same as Article.install on every row
+     * @param rows
+     * @param sensor
+     * @param extendedWarranty
+     */
+    public void install(BitSet rows, Part sensor, Warranty extendedWarranty) {
+        int installedOn = toDay(sensor.getInstallmentDate());
+        int defectDetectedOn = sensor.getDefectDetectedOn().map(ArticleStore::toDay).orElse(NONE);
+        for (int row = this.firstOf(rows); row >= 0; row = rows.nextSetBit(row + 1)) {
+            this.sensorInstalledOn.set(row, installedOn);
+            this.sensorDefectDetectedOn.set(row, defectDetectedOn);
+            setWarranty(this.sensorWarrantyFrom, this.sensorWarrantyTo, row, extendedWarranty);
+        }
+    }
+
+    /**
+     * Same as Article.sensorNotOperational on every row, rows without a sensor stay as they are
+     * @param rows
+     * @param detectedOn
+     */
+    public void sensorNotOperational(BitSet rows, LocalDate detectedOn) {
+        int day = toDay(detectedOn);
+        for (int row = this.firstOf(rows); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (this.sensorInstalledOn.get(row) != NONE) {
+                this.sensorDefectDetectedOn.set(row, day);
+            }
+        }
+    }
+
+    /**
+     * Rows whose money back guarantee can be claimed on the day
+     * @param today
+     * @return
+     */
+    public BitSet moneyBackOn(LocalDate today) {
+        int day = clamp(today.toEpochDay());
+        return this.select(word -> {
+            long bits = 0;
+            for (int row = firstRowOf(word), last = this.lastRowOf(word); row < last; row++) {
+                bits |= within(this.moneyBackFrom.get(row), day, this.moneyBackTo.get(row)) << row;
+            }
+            return bits;
+        });
+    }
+
+    /**
+     * Rows whose express warranty can be claimed on the day
+     * @param today
+     * @return
+     */
+    public BitSet expressOn(LocalDate today) {
+        int day = clamp(today.toEpochDay());
+        return this.select(word -> {
+            long bits = 0;
+            for (int row = firstRowOf(word), last = this.lastRowOf(word); row < last; row++) {
+                bits |= within(this.expressFrom.get(row), day, this.expressTo.get(row)) << row;
+            }
+            return bits;
+        });
+    }
+
+    /**
+     * Rows whose extended warranty can be claimed on the day, for a sensor failure found on the date
+     * As Article.getExtendedWarranty has it: a lifetime warranty from the day the sensor defect was detected,
+     * given the express warranty was issued by then
+     * @param today
+     * @param sensorFailureDate
+     * @return
+     */
+    public BitSet extendedOn(LocalDate today, LocalDate sensorFailureDate) {
+        int day = clamp(today.toEpochDay());
+        int failureDay = clamp(sensorFailureDate.toEpochDay());
+        // a defect is only recorded with a sensor, and a void express warranty starts after any defect, or none
+        int lastDay = Math.min(day, failureDay);
+        return this.select(word -> {
+            long bits = 0;
+            for (int row = firstRowOf(word), last = this.lastRowOf(word); row < last; row++) {
+                bits |= within(this.expressFrom.get(row), this.sensorDefectDetectedOn.get(row), lastDay) << row;
+            }
+            return bits;
+        });
+    }
+
+    /**
+     * Every block of 64 rows fills one word of the result on its own, so blocks can be worked out in parallel
+     * A shift takes the row modulo 64, which is its bit within the word
+     */
+    private BitSet select(IntToLongFunction word) {
+        long[] words = new long[(this.size + Long.SIZE - 1) / Long.SIZE];
+        this.parallelism.range(words.length).forEach(index -> words[index] = word.applyAsLong(index));
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * One when the day is within the bounds, zero otherwise, without a branch to mispredict on mixed fleets
+     */
+    private static long within(int from, int day, int to) {
+        return 1L ^ (((long) day - from | (long) to - day) >>> 63);
+    }
+
+    private static int firstRowOf(int word) {
+        return word * Long.SIZE;
+    }
+
+    private int lastRowOf(int word) {
+        return Math.min(firstRowOf(word) + Long.SIZE, this.size);
+    }
+
+    private int firstOf(BitSet rows) {
+        if (rows.length() > this.size) {
+            throw new IllegalArgumentException("No row " + (rows.length() - 1) + " in a store of " + this.size);
+        }
+        return rows.nextSetBit(0);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IllegalArgumentException("No row " + row + " in a store of " + this.size);
+        }
+    }
+
+    private static void setWarranty(DayColumn from, DayColumn to, int row, Warranty warranty) {
+        ValidityInterval validity = warranty.validity();
+        if (validity.isEmpty()) {
+            from.set(row, VOID_FROM);
+            to.set(row, VOID_TO);
+        } else {
+            from.set(row, toDay(validity.getFromEpochDay()));
+            to.set(row, validity.isUnbounded() ? UNBOUNDED : toDay(validity.getToEpochDay()));
+        }
+    }
+
+    private static Warranty warranty(int from, int to) {
+        return from > to ? Warranty.VOID
+                : to == UNBOUNDED ? Warranty.lifetime(LocalDate.ofEpochDay(from))
+                : new TimeLimitWarranty(LocalDate.ofEpochDay(from), Duration.ofDays((long) to - from));
+    }
+
+    private static int toDay(LocalDate date) {
+        return toDay(date.toEpochDay());
+    }
+
+    /**
+     * Days of the columns leave the lowest and the highest int free, they stand for no day and for no end
+     */
+    private static int toDay(long epochDay) {
+        if (epochDay <= Integer.MIN_VALUE || epochDay >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Date out of range: " + LocalDate.ofEpochDay(epochDay));
+        }
+        return (int) epochDay;
+    }
+
+    private static int clamp(long epochDay) {
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(epochDay, Integer.MAX_VALUE - 1));
+    }
+}
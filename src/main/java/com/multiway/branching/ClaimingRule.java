@@ -37,4 +37,25 @@ public interface ClaimingRule {
     default ClaimingRule with(ClaimingRule other) {
         return new WithRule(this, other);
     }
+
+    /**
+     * Turns the rule into a decision table over status shapes, where the rule allows it
+     * Rules which cannot tell their shapes stay as they are
+     * @return
+     */
+    default ClaimingRule compile() {
+        return this;
+    }
+
+    /**
+     * Applies the action of this rule to the status, if there is one
+     * Compiled rules do it without building an Optional or an Action
+     * @param status
+     * @return whether an action was applied
+     */
+    default boolean applyTo(DeviceStatus status) {
+        Optional<Action> action = this.applicableTo(status);
+        action.ifPresent(Action::apply);
+        return action.isPresent();
+    }
 }
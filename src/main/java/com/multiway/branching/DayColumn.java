@@ -0,0 +1,62 @@
+package com.multiway.branching;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Fixed number of epoch days, kept in an int array or in memory outside the heap
+ * Off-heap columns are not scanned by the garbage collector and do not count against the heap size
+ */
+abstract class DayColumn {
+
+    static DayColumn onHeap(int rows) {
+        return new HeapColumn(rows);
+    }
+
+    static DayColumn offHeap(int rows) {
+        return new DirectColumn(rows);
+    }
+
+    abstract int get(int row);
+
+    abstract void set(int row, int day);
+
+    private static class HeapColumn extends DayColumn {
+        private final int[] days;
+
+        HeapColumn(int rows) {
+            this.days = new int[rows];
+        }
+
+        @Override
+        int get(int row) {
+            return this.days[row];
+        }
+
+        @Override
+        void set(int row, int day) {
+            this.days[row] = day;
+        }
+    }
+
+    private static class DirectColumn extends DayColumn {
+        private final IntBuffer days;
+
+        DirectColumn(int rows) {
+            this.days = ByteBuffer.allocateDirect(Math.multiplyExact(rows, Integer.BYTES))
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+
+        @Override
+        int get(int row) {
+            return this.days.get(row);
+        }
+
+        @Override
+        void set(int row, int day) {
+            this.days.put(row, day);
+        }
+    }
+}
@@ -3,11 +3,16 @@ package com.multiway.branching;
 import com.multiway.branching.builders.ClaimingRulesBuilder;
 import com.multiway.branching.builders.ExhaustiveRulesBuilder;
 import com.multiway.branching.builders.PartitioningRulesBuilder;
+import com.multiway.branching.pipeline.ClaimPipeline;
+import com.multiway.branching.pipeline.PipelineReport;
+import com.multiway.branching.rules.SharedRule;
 import com.multiway.branching.states.DeviceStatus;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 
 public class Demo {
@@ -135,6 +140,30 @@ public class Demo {
         System.out.println("-----------------");
     }
 
+    /**
+     * Many statuses of the same article claimed together
+     * The rules are not built for each status, the rules of the builder class are shared and take the article as context
+     * Actions are applied concurrently by the pipeline
+     * @param rulesBuilderFactory
+     * @param article
+     * @param statuses
+     * @return
+     */
+    public PipelineReport claimWarranties(
+            Supplier<ClaimingRulesBuilder> rulesBuilderFactory,
+            Article article,
+            List<DeviceStatus> statuses
+    ) {
+        LocalDate today = LocalDate.now();
+
+        SharedRule<Article> rules = SharedRule.of(rulesBuilderFactory,
+                (claimed, s) -> this.claimMoneyBack(claimed, today),
+                (claimed, s) -> this.claimExpress(claimed, today),
+                (claimed, s) -> this.claimExtended(claimed, today, s.getFailureDetectedDate()));
+
+        return ClaimPipeline.<DeviceStatus>evaluating(status -> rules.applicableTo(article, status)).process(statuses);
+    }
+
     /**
      * This client side method is the perfect representation of what will happen when its representation is not encapsulated
      * You will have to do all the manipulation your self
@@ -229,5 +258,14 @@ public class Demo {
         LocalDate sensorExamined = LocalDate.now().minus(2, ChronoUnit.DAYS);
         this.claimWarranty(builderFactory, item, DeviceStatus.sensorFailed(sensorExamined));
         this.claimWarranty(builderFactory, item, DeviceStatus.notOperational().andSensorFailed(sensorExamined));
+
+        PipelineReport report = this.claimWarranties(builderFactory, item, Arrays.asList(
+                DeviceStatus.allFine(),
+                DeviceStatus.visiblyDamaged(),
+                DeviceStatus.notOperational(),
+                DeviceStatus.notOperational().andVisiblyDamaged(),
+                DeviceStatus.sensorFailed(sensorExamined),
+                DeviceStatus.notOperational().andSensorFailed(sensorExamined)));
+        System.out.println(report);
     }
 }
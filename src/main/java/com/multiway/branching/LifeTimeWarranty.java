@@ -12,7 +12,7 @@ import java.util.Optional;
  */
 public class LifeTimeWarranty implements Warranty{
 
-    private LocalDate issuedOn;
+    private final LocalDate issuedOn;
 
     public LifeTimeWarranty(LocalDate issuedOn) {
         this.issuedOn = issuedOn;
@@ -32,4 +32,9 @@ public class LifeTimeWarranty implements Warranty{
     public Optional<Warranty> filter(LocalDate date) {
         return date.compareTo(this.issuedOn) >= 0 ? Optional.of(this) : Optional.empty();
     }
+
+    @Override
+    public ValidityInterval validity() {
+        return ValidityInterval.from(this.issuedOn);
+    }
 }
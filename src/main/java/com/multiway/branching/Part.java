@@ -19,6 +19,14 @@ public class Part {
         this.defectDetectedOn = defectDetectedOn;
     }
 
+    LocalDate getInstallmentDate() {
+        return this.installmentDate;
+    }
+
+    Optional<LocalDate> getDefectDetectedOn() {
+        return this.defectDetectedOn;
+    }
+
     public Part defective(LocalDate detectedOn) {
         return new Part(this.installmentDate, Optional.of(detectedOn));
     }
@@ -0,0 +1,122 @@
+package com.multiway.branching;
+
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.OperationalStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Many device statuses claimed against the same rules
+ * Operational states of the statuses are packed into an array of bitmasks, read without touching the statuses
+ * Every rule is compiled once per batch, not once per status
+ * A parallel batch splits the statuses across cores, actions it applies must tolerate being called concurrently
+ */
+public class StatusBatch {
+    private final DeviceStatus[] statuses;
+    private final int[] masks;
+    private final boolean parallel;
+
+    private StatusBatch(DeviceStatus[] statuses, int[] masks, boolean parallel) {
+        this.statuses = statuses;
+        this.masks = masks;
+        this.parallel = parallel;
+    }
+
+    public static StatusBatch of(DeviceStatus... statuses) {
+        DeviceStatus[] copy = statuses.clone();
+        int[] masks = new int[copy.length];
+        for (int i = 0; i < copy.length; i++) {
+            masks[i] = copy[i].asBitmask();
+        }
+        return new StatusBatch(copy, masks, false);
+    }
+
+    public static StatusBatch of(Iterable<DeviceStatus> statuses) {
+        List<DeviceStatus> list = new ArrayList<>();
+        statuses.forEach(list::add);
+        return of(list.toArray(new DeviceStatus[0]));
+    }
+
+    public static StatusBatch of(Stream<DeviceStatus> statuses) {
+        return of(statuses.toArray(DeviceStatus[]::new));
+    }
+
+    public StatusBatch parallel() {
+        return new StatusBatch(this.statuses, this.masks, true);
+    }
+
+    public int size() {
+        return this.statuses.length;
+    }
+
+    /**
+     * Statuses whose operational state includes the pattern, tested on the packed bitmasks
+     * @param pattern
+     * @return
+     */
+    public StatusBatch including(OperationalStatus pattern) {
+        int mask = pattern.asBitmask();
+        int[] selected = this.indexes().filter(i -> (this.masks[i] & mask) == mask).toArray();
+
+        DeviceStatus[] statuses = new DeviceStatus[selected.length];
+        int[] masks = new int[selected.length];
+        for (int i = 0; i < selected.length; i++) {
+            statuses[i] = this.statuses[selected[i]];
+            masks[i] = this.masks[selected[i]];
+        }
+        return new StatusBatch(statuses, masks, this.parallel);
+    }
+
+    /**
+     * Applies the rule to every status it is applicable to
+     * @param rule
+     * @return number of statuses an action was applied to
+     */
+    public int applyAll(ClaimingRule rule) {
+        ClaimingRule compiled = rule.compile();
+        return (int) this.indexes().filter(i -> compiled.applyTo(this.statuses[i])).count();
+    }
+
+    /**
+     * Actions the rule offers, in the order of statuses, without applying any of them
+     * @param rule
+     * @return
+     */
+    public List<Action> actionsOf(ClaimingRule rule) {
+        ClaimingRule compiled = rule.compile();
+        return this.indexes()
+                .mapToObj(i -> compiled.applicableTo(this.statuses[i]))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Actions grouped by the rule offering them, rules keep their order
+     * @param rules
+     * @return
+     */
+    public Map<ClaimingRule, List<Action>> actionsOf(List<ClaimingRule> rules) {
+        Map<ClaimingRule, List<Action>> actions = new LinkedHashMap<>();
+        rules.forEach(rule -> actions.put(rule, this.actionsOf(rule)));
+        return actions;
+    }
+
+    private IntStream indexes() {
+        IntStream indexes = IntStream.range(0, this.statuses.length);
+        return this.parallel ? indexes.parallel() : indexes;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.statuses);
+    }
+}
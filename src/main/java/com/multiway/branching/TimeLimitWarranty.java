@@ -5,12 +5,19 @@ import java.time.LocalDate;
 import java.util.Optional;
 
 public class TimeLimitWarranty implements Warranty{
-    private LocalDate dateIssued;
-    private Duration validFor;
+    private final LocalDate dateIssued;
+    private final Duration validFor;
+    private final LocalDate expiredDate;
 
+    /**
+     * The expiry date is computed once, here, and every check reads the kept date
+     * @param dateIssued
+     * @param validFor
+     */
     public TimeLimitWarranty(LocalDate dateIssued, Duration validFor) {
         this.dateIssued = dateIssued;
         this.validFor = validFor;
+        this.expiredDate = dateIssued.plusDays(validFor.toDays());
     }
 
 //    @Override
@@ -30,7 +37,7 @@ public class TimeLimitWarranty implements Warranty{
     @Override
     public Warranty on(LocalDate date) {
         return date.compareTo(this.dateIssued) < 0 ? Warranty.VOID
-                :date.compareTo(this.getExpiredDate()) > 0 ? Warranty.VOID
+                :date.compareTo(this.expiredDate) > 0 ? Warranty.VOID
                 :this;
 
     }
@@ -40,8 +47,13 @@ public class TimeLimitWarranty implements Warranty{
         return date.compareTo(this.dateIssued) >= 0 ? Optional.of(this) : Optional.empty();
     }
 
+    @Override
+    public ValidityInterval validity() {
+        return ValidityInterval.between(this.dateIssued, this.expiredDate);
+    }
+
     public LocalDate getExpiredDate() {
-        return dateIssued.plusDays(this.getValidForDays());
+        return this.expiredDate;
     }
 
     public long getValidForDays() {
@@ -0,0 +1,363 @@
+package com.multiway.branching;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Warranties of many articles indexed by the days they are valid on, articles are known by their ids
+ * A priority search tree: a binary trie on the bits of the key (first day, id), with the warranty of the latest
+ * last day held at the top of every subtree, and the rest of it split by the next bit of the key
+ * Finding the warranties valid on a day, or on any day of a range, visits at most 64 nodes plus two per warranty found
+ * Adding or removing a warranty walks a single path of at most 64 nodes, nothing is ever rebuilt
+ * Ids are meant to be dense, like positions of articles in a fleet - the index keeps days in arrays up to the largest id
+ * Not safe for concurrent use, readers and writers must be kept apart by the caller
+ */
+public class ValidityIndex {
+    private static final int NONE = -1;
+    private static final int KEY_BITS = 64;
+
+    private int[] firstDays = new int[16];
+    private int[] lastDays = new int[16];
+    private final BitSet indexed = new BitSet();
+    private int size;
+
+    private int[] held = new int[16];
+    private long[] heldKeys = new long[16];
+    private int[] heldLastDays = new int[16];
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    private int allocatedNodes;
+    private int freeNodes = NONE;
+    private int root = NONE;
+
+    private ValidityIndex() {
+    }
+
+    public static ValidityIndex empty() {
+        return new ValidityIndex();
+    }
+
+    /**
+     * Index of the warranties, each one known by its position in the list
+     * @param warranties
+     * @return
+     */
+    public static ValidityIndex of(List<? extends Warranty> warranties) {
+        ValidityIndex index = new ValidityIndex();
+        for (int id = 0; id < warranties.size(); id++) {
+            index.put(id, warranties.get(id));
+        }
+        index.compact();
+        return index;
+    }
+
+    public void put(int id, Warranty warranty) {
+        this.put(id, warranty.validity());
+    }
+
+    /**
+     * Indexes the validity under the id, in place of what the id had before
+     * An empty validity leaves the id out of the index, as it is never valid
+     * @param id
+     * @param validity
+     */
+    public void put(int id, ValidityInterval validity) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must not be negative: " + id);
+        }
+        this.remove(id);
+        if (validity.isEmpty()) {
+            return;
+        }
+        this.ensureIdCapacity(id);
+        this.firstDays[id] = toFirstDay(validity.getFromEpochDay());
+        this.lastDays[id] = (int) Math.min(validity.getToEpochDay(), Integer.MAX_VALUE);
+        this.insert(id);
+        this.indexed.set(id);
+        this.size++;
+    }
+
+    public void remove(int id) {
+        if (!this.contains(id)) {
+            return;
+        }
+        this.delete(id);
+        this.indexed.clear(id);
+        this.size--;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && this.indexed.get(id);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Ids of the warranties valid on the date, in no particular order
+     * @param date
+     * @return
+     */
+    public int[] validOn(LocalDate date) {
+        return this.validWithin(date, date);
+    }
+
+    /**
+     * Ids of the warranties valid on any day from one date through the other, in no particular order
+     * @param from
+     * @param to
+     * @return
+     */
+    public int[] validWithin(LocalDate from, LocalDate to) {
+        IdCollector ids = new IdCollector();
+        this.forEachValidWithin(from, to, ids);
+        return ids.toArray();
+    }
+
+    public void forEachValidOn(LocalDate date, IntConsumer ids) {
+        this.forEachValidWithin(date, date, ids);
+    }
+
+    /**
+     * Warranties starting no later than the range and ending no sooner than it - two bounds the tree answers directly
+     * @param from
+     * @param to
+     * @param ids
+     */
+    public void forEachValidWithin(LocalDate from, LocalDate to, IntConsumer ids) {
+        if (this.root == NONE || to.isBefore(from)) {
+            return;
+        }
+        long maxKey = key(clamp(to.toEpochDay()), -1);
+        this.visit(this.root, 0, 0L, maxKey, clamp(from.toEpochDay()), ids);
+    }
+
+    /**
+     * Every node holds a key of its own range, so a node whose range starts past the bound has nothing to report
+     * A held warranty ending too soon means all warranties below it end too soon as well
+     * Nodes keep the key and the last day of the warranty they hold, so the search reads nothing but the nodes
+     */
+    private void visit(int node, int depth, long low, long maxKey, int minLastDay, IntConsumer ids) {
+        if (this.heldLastDays[node] < minLastDay) {
+            return;
+        }
+        if (Long.compareUnsigned(this.heldKeys[node], maxKey) <= 0) {
+            ids.accept(this.held[node]);
+        }
+        if (this.left[node] != NONE) {
+            this.visit(this.left[node], depth + 1, low, maxKey, minLastDay, ids);
+        }
+        long rightLow = low + (1L << (KEY_BITS - 1 - depth));
+        if (this.right[node] != NONE && Long.compareUnsigned(rightLow, maxKey) <= 0) {
+            this.visit(this.right[node], depth + 1, rightLow, maxKey, minLastDay, ids);
+        }
+    }
+
+    /**
+     * Walks down the path of the key, swapping the warranty carried down with any held one ending sooner
+     */
+    private void insert(int id) {
+        if (this.root == NONE) {
+            this.root = this.newNode(id);
+            return;
+        }
+        int carried = id;
+        int node = this.root;
+        for (int depth = 0; ; depth++) {
+            int heldId = this.held[node];
+            if (this.lastDays[carried] > this.heldLastDays[node]) {
+                this.hold(node, carried);
+                carried = heldId;
+            }
+            boolean goRight = this.bitOf(carried, depth);
+            int child = goRight ? this.right[node] : this.left[node];
+            if (child == NONE) {
+                child = this.newNode(carried);
+                if (goRight) {
+                    this.right[node] = child;
+                } else {
+                    this.left[node] = child;
+                }
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Finds the node holding the id on the path of its key, then fills the gap from below, always with the child ending later
+     */
+    private void delete(int id) {
+        int parent = NONE;
+        boolean fromRight = false;
+        int node = this.root;
+        for (int depth = 0; this.held[node] != id; depth++) {
+            parent = node;
+            fromRight = this.bitOf(id, depth);
+            node = fromRight ? this.right[node] : this.left[node];
+        }
+        while (true) {
+            int leftChild = this.left[node];
+            int rightChild = this.right[node];
+            if (leftChild == NONE && rightChild == NONE) {
+                this.unlink(parent, fromRight);
+                this.freeNode(node);
+                return;
+            }
+            fromRight = leftChild == NONE
+                    || rightChild != NONE && this.heldLastDays[rightChild] > this.heldLastDays[leftChild];
+            int child = fromRight ? rightChild : leftChild;
+            this.hold(node, this.held[child]);
+            parent = node;
+            node = child;
+        }
+    }
+
+    /**
+     * Lays the nodes out in the order searches visit them, parents right before their left subtrees
+     * Nodes added one by one end up scattered over the arrays, large searches then wait on memory at almost every node
+     * Indexes built of a list are compacted already, call it again after many changes
+     */
+    public void compact() {
+        int[] order = new int[this.size];
+        int[] renumbered = new int[this.allocatedNodes];
+        int[] pending = new int[KEY_BITS + 1];
+        int count = 0;
+        int top = 0;
+        if (this.root != NONE) {
+            pending[top++] = this.root;
+        }
+        while (top > 0) {
+            int node = pending[--top];
+            renumbered[node] = count;
+            order[count++] = node;
+            if (this.right[node] != NONE) {
+                pending[top++] = this.right[node];
+            }
+            if (this.left[node] != NONE) {
+                pending[top++] = this.left[node];
+            }
+        }
+
+        int capacity = Math.max(count, 16);
+        int[] held = new int[capacity];
+        long[] heldKeys = new long[capacity];
+        int[] heldLastDays = new int[capacity];
+        int[] left = new int[capacity];
+        int[] right = new int[capacity];
+        for (int node = 0; node < count; node++) {
+            int old = order[node];
+            held[node] = this.held[old];
+            heldKeys[node] = this.heldKeys[old];
+            heldLastDays[node] = this.heldLastDays[old];
+            left[node] = this.left[old] == NONE ? NONE : renumbered[this.left[old]];
+            right[node] = this.right[old] == NONE ? NONE : renumbered[this.right[old]];
+        }
+        this.held = held;
+        this.heldKeys = heldKeys;
+        this.heldLastDays = heldLastDays;
+        this.left = left;
+        this.right = right;
+        this.allocatedNodes = count;
+        this.freeNodes = NONE;
+        this.root = count == 0 ? NONE : 0;
+    }
+
+    private void unlink(int parent, boolean fromRight) {
+        if (parent == NONE) {
+            this.root = NONE;
+        } else if (fromRight) {
+            this.right[parent] = NONE;
+        } else {
+            this.left[parent] = NONE;
+        }
+    }
+
+    private int newNode(int id) {
+        int node;
+        if (this.freeNodes != NONE) {
+            node = this.freeNodes;
+            this.freeNodes = this.left[node];
+        } else {
+            if (this.allocatedNodes == this.held.length) {
+                int capacity = 2 * this.held.length;
+                this.held = Arrays.copyOf(this.held, capacity);
+                this.heldKeys = Arrays.copyOf(this.heldKeys, capacity);
+                this.heldLastDays = Arrays.copyOf(this.heldLastDays, capacity);
+                this.left = Arrays.copyOf(this.left, capacity);
+                this.right = Arrays.copyOf(this.right, capacity);
+            }
+            node = this.allocatedNodes++;
+        }
+        this.hold(node, id);
+        this.left[node] = NONE;
+        this.right[node] = NONE;
+        return node;
+    }
+
+    private void hold(int node, int id) {
+        this.held[node] = id;
+        this.heldKeys[node] = this.keyOf(id);
+        this.heldLastDays[node] = this.lastDays[id];
+    }
+
+    private void freeNode(int node) {
+        this.left[node] = this.freeNodes;
+        this.freeNodes = node;
+    }
+
+    private void ensureIdCapacity(int id) {
+        if (id >= this.firstDays.length) {
+            int capacity = Math.max(id + 1, 2 * this.firstDays.length);
+            this.firstDays = Arrays.copyOf(this.firstDays, capacity);
+            this.lastDays = Arrays.copyOf(this.lastDays, capacity);
+        }
+    }
+
+    private boolean bitOf(int id, int depth) {
+        return (this.keyOf(id) >>> (KEY_BITS - 1 - depth) & 1) != 0;
+    }
+
+    private long keyOf(int id) {
+        return key(this.firstDays[id], id);
+    }
+
+    /**
+     * First day in the high half, flipped to sort as unsigned, and the id in the low half to tell equal days apart
+     */
+    private static long key(int firstDay, int id) {
+        return (long) (firstDay ^ Integer.MIN_VALUE) << 32 | id & 0xFFFFFFFFL;
+    }
+
+    private static int toFirstDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Validity starts out of range: " + epochDay);
+        }
+        return (int) epochDay;
+    }
+
+    private static int clamp(long epochDay) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(epochDay, Integer.MAX_VALUE));
+    }
+
+    private static class IdCollector implements IntConsumer {
+        private int[] ids = new int[16];
+        private int count;
+
+        @Override
+        public void accept(int id) {
+            if (this.count == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, 2 * this.count);
+            }
+            this.ids[this.count++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.ids, this.count);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.multiway.branching;
+
+import java.time.LocalDate;
+
+/**
+ * Days on which a warranty is valid, both ends included, as epoch days
+ * An interval without an end never expires, an empty interval is valid on no day
+ */
+public class ValidityInterval {
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+    private static final ValidityInterval NEVER = new ValidityInterval(1, 0);
+
+    private final long fromEpochDay;
+    private final long toEpochDay;
+
+    private ValidityInterval(long fromEpochDay, long toEpochDay) {
+        this.fromEpochDay = fromEpochDay;
+        this.toEpochDay = toEpochDay;
+    }
+
+    public static ValidityInterval never() {
+        return NEVER;
+    }
+
+    /**
+     * Valid from the date on, for ever
+     * @param from
+     * @return
+     */
+    public static ValidityInterval from(LocalDate from) {
+        return new ValidityInterval(from.toEpochDay(), UNBOUNDED);
+    }
+
+    /**
+     * Valid from one date through the other, empty when the second date comes first
+     * @param from
+     * @param to
+     * @return
+     */
+    public static ValidityInterval between(LocalDate from, LocalDate to) {
+        return to.isBefore(from) ? NEVER : new ValidityInterval(from.toEpochDay(), to.toEpochDay());
+    }
+
+    public boolean isEmpty() {
+        return this.toEpochDay < this.fromEpochDay;
+    }
+
+    public boolean isUnbounded() {
+        return this.toEpochDay == UNBOUNDED;
+    }
+
+    public boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        return this.fromEpochDay <= day && day <= this.toEpochDay;
+    }
+
+    /**
+     * Whether the warranty is valid on any day from one date through the other
+     * @param from
+     * @param to
+     * @return
+     */
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return !this.isEmpty() && this.fromEpochDay <= to.toEpochDay() && from.toEpochDay() <= this.toEpochDay;
+    }
+
+    public long getFromEpochDay() {
+        return this.fromEpochDay;
+    }
+
+    /**
+     * Last day of validity, Long.MAX_VALUE for intervals without an end
+     * @return
+     */
+    public long getToEpochDay() {
+        return this.toEpochDay;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ValidityInterval && this.equals((ValidityInterval) o);
+    }
+
+    private boolean equals(ValidityInterval other) {
+        return this.isEmpty() && other.isEmpty()
+                || this.fromEpochDay == other.fromEpochDay && this.toEpochDay == other.toEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.isEmpty() ? 0 : 31 * Long.hashCode(this.fromEpochDay) + Long.hashCode(this.toEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        return this.isEmpty() ? "never"
+                : this.isUnbounded() ? "from " + LocalDate.ofEpochDay(this.fromEpochDay)
+                : LocalDate.ofEpochDay(this.fromEpochDay) + " through " + LocalDate.ofEpochDay(this.toEpochDay);
+    }
+}
@@ -36,4 +36,9 @@ public class VoidWarranty implements Warranty {
     public Optional<Warranty> filter(LocalDate date) {
         return Optional.empty();
     }
+
+    @Override
+    public ValidityInterval validity() {
+        return ValidityInterval.never();
+    }
 }
@@ -35,6 +35,13 @@ public interface Warranty {
 
     Optional<Warranty> filter(LocalDate date);
 
+    /**
+     * Days on which the warranty is valid, the days on which on(date) returns the warranty itself
+     * Lets indexes answer for many warranties at once what on(date) answers for one
+     * @return
+     */
+    ValidityInterval validity();
+
     Warranty VOID = new VoidWarranty();
 
     static Warranty lifetime(LocalDate issuedOn) {
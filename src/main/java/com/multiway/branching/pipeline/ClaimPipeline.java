@@ -0,0 +1,140 @@
+package com.multiway.branching.pipeline;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.states.DeviceStatus;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Claims drained in stages: the caller feeds them, evaluators find their actions, appliers apply the actions
+ * Stages are connected by bounded queues, a stage that falls behind blocks the one feeding it instead of piling up claims
+ * The rule is built once and shared by all evaluators, so it must not keep state between claims - compiled rules do not
+ * Actions run concurrently on the appliers, in no particular order
+ * @param <C> type of the claims
+ */
+public class ClaimPipeline<C> {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final Function<C, Optional<Action>> evaluation;
+    private final int evaluators;
+    private final int appliers;
+    private final int capacity;
+
+    private ClaimPipeline(Function<C, Optional<Action>> evaluation, int evaluators, int appliers, int capacity) {
+        if (evaluators < 1 || appliers < 1 || capacity < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Stages need threads and room: %d evaluators, %d appliers, capacity %d", evaluators, appliers, capacity));
+        }
+        this.evaluation = evaluation;
+        this.evaluators = evaluators;
+        this.appliers = appliers;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Pipeline claiming statuses against the rule, compiled once for all of them
+     * One evaluator, since a compiled rule answers from a table, and one applier per core
+     * @param rule
+     * @return
+     */
+    public static ClaimPipeline<DeviceStatus> of(ClaimingRule rule) {
+        ClaimingRule compiled = rule.compile();
+        return evaluating(compiled::applicableTo);
+    }
+
+    /**
+     * Pipeline of any kind of claims, evaluation tells the action of a claim, if any
+     * @param evaluation
+     * @param <C>
+     * @return
+     */
+    public static <C> ClaimPipeline<C> evaluating(Function<C, Optional<Action>> evaluation) {
+        return new ClaimPipeline<>(evaluation, 1, Runtime.getRuntime().availableProcessors(), DEFAULT_CAPACITY);
+    }
+
+    public ClaimPipeline<C> evaluatingOn(int threads) {
+        return new ClaimPipeline<>(this.evaluation, threads, this.appliers, this.capacity);
+    }
+
+    public ClaimPipeline<C> applyingOn(int threads) {
+        return new ClaimPipeline<>(this.evaluation, this.evaluators, threads, this.capacity);
+    }
+
+    /**
+     * Claims and actions each stage may have waiting at most
+     * @param capacity
+     * @return
+     */
+    public ClaimPipeline<C> bufferedBy(int capacity) {
+        return new ClaimPipeline<>(this.evaluation, this.evaluators, this.appliers, capacity);
+    }
+
+    public PipelineReport process(Stream<? extends C> claims) {
+        return this.process(claims.iterator());
+    }
+
+    public PipelineReport process(Iterable<? extends C> claims) {
+        return this.process(claims.iterator());
+    }
+
+    /**
+     * Drains the claims and returns once every action is applied
+     * Claims are read on the calling thread, which waits whenever the evaluators are a full queue behind
+     * A claim failing to evaluate or to apply does not stop the others, the first failure is thrown after all of them
+     * Every call starts threads of its own for both stages and joins them at the end, tens of microseconds per thread
+     * That is lost on backlogs of thousands of claims, a handful of claims is cheaper to claim one by one
+     * @param claims
+     * @return
+     */
+    public PipelineReport process(Iterator<? extends C> claims) {
+        long start = System.nanoTime();
+        ClaimStage<Action, Void> applying = new ClaimStage<>("apply", this.appliers, this.capacity,
+                action -> {
+                    action.apply();
+                    return Optional.empty();
+                }, Optional.empty());
+        ClaimStage<C, Action> evaluating = new ClaimStage<>("evaluate", this.evaluators, this.capacity,
+                this.evaluation, Optional.of(applying));
+
+        long claimed = 0;
+        long blockedNanos = 0;
+        try {
+            List<C> batch = new ArrayList<>(ClaimStage.BATCH_SIZE);
+            while (claims.hasNext()) {
+                batch.add(claims.next());
+                claimed++;
+                if (batch.size() == ClaimStage.BATCH_SIZE || !claims.hasNext()) {
+                    long offered = System.nanoTime();
+                    evaluating.put(batch);
+                    blockedNanos += System.nanoTime() - offered;
+                    batch = new ArrayList<>(ClaimStage.BATCH_SIZE);
+                }
+            }
+        } finally {
+            try {
+                evaluating.finish();
+            } finally {
+                applying.finish();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        PipelineReport report = new PipelineReport(claimed, blockedNanos, elapsedNanos,
+                evaluating.metrics(elapsedNanos), applying.metrics(elapsedNanos));
+        evaluating.rethrowFirstFailure();
+        applying.rethrowFirstFailure();
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d evaluators, %d appliers, %d claims buffered per stage",
+                this.evaluators, this.appliers, this.capacity);
+    }
+}
@@ -0,0 +1,141 @@
+package com.multiway.branching.pipeline;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Threads taking batches of items from a bounded queue and handing each item to the handler
+ * Whatever the handler returns is collected into a batch for the next stage, the last stage returns nothing
+ * Passing batches instead of single items keeps the cost of the queue and of waking up threads off every item
+ * Latency of an item runs from the moment its batch is put into the queue until the handler is done with it
+ * @param <T> items the stage takes
+ * @param <R> items it passes on
+ */
+class ClaimStage<T, R> {
+    static final int BATCH_SIZE = 64;
+    private static final Batch<?> END = new Batch<>(Collections.emptyList(), 0);
+
+    private final String name;
+    private final BlockingQueue<Batch<T>> queue;
+    private final Function<T, Optional<R>> handler;
+    private final Optional<ClaimStage<R, ?>> next;
+    private final List<Thread> workers = new ArrayList<>();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    ClaimStage(String name, int threads, int capacity,
+               Function<T, Optional<R>> handler, Optional<ClaimStage<R, ?>> next) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity / BATCH_SIZE));
+        this.handler = handler;
+        this.next = next;
+        for (int i = 1; i <= threads; i++) {
+            Thread worker = new Thread(this::work, "claims-" + name + "-" + i);
+            worker.setDaemon(true);
+            this.workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Waits while the queue is full
+     * @param items
+     */
+    void put(List<T> items) {
+        this.enqueue(new Batch<>(items, System.nanoTime()));
+    }
+
+    /**
+     * Lets the workers finish what is queued, and waits for them
+     * An interrupt, even one the feeding thread got before, is kept until the workers are done, and set again after
+     */
+    @SuppressWarnings("unchecked")
+    void finish() {
+        this.workers.forEach(worker -> Uninterruptibles.putUninterruptibly(this.queue, (Batch<T>) END));
+        this.workers.forEach(Uninterruptibles::joinUninterruptibly);
+    }
+
+    StageMetrics metrics(long elapsedNanos) {
+        return new StageMetrics(this.name, this.workers.size(), this.processed.sum(), this.failed.sum(),
+                this.busyNanos.sum(), this.latencyNanos.sum(), this.maxLatencyNanos.get(), elapsedNanos);
+    }
+
+    void rethrowFirstFailure() {
+        Throwable failure = this.firstFailure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    private void enqueue(Batch<T> batch) {
+        try {
+            this.queue.put(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while feeding the " + this.name + " stage", e);
+        }
+    }
+
+    private void work() {
+        while (true) {
+            Batch<T> batch;
+            try {
+                batch = this.queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch == END) {
+                return;
+            }
+            this.handle(batch);
+        }
+    }
+
+    private void handle(Batch<T> batch) {
+        List<R> results = new ArrayList<>(batch.items.size());
+        long started = System.nanoTime();
+        for (T item : batch.items) {
+            try {
+                this.handler.apply(item).ifPresent(results::add);
+            } catch (Throwable failure) {
+                this.failed.increment();
+                this.firstFailure.compareAndSet(null, failure);
+            }
+        }
+        long done = System.nanoTime();
+        this.processed.add(batch.items.size());
+        this.busyNanos.add(done - started);
+        this.latencyNanos.add((done - batch.enqueuedNanos) * batch.items.size());
+        this.maxLatencyNanos.accumulateAndGet(done - batch.enqueuedNanos, Math::max);
+        if (!results.isEmpty()) {
+            this.next.ifPresent(stage -> stage.put(results));
+        }
+    }
+
+    private static class Batch<T> {
+        private final List<T> items;
+        private final long enqueuedNanos;
+
+        Batch(List<T> items, long enqueuedNanos) {
+            this.items = items;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.multiway.branching.pipeline;
+
+import java.time.Duration;
+
+/**
+ * Outcome of draining claims through a pipeline, with the metrics of each of its stages
+ * Time the caller spent blocked tells how much the stages held the claims back
+ */
+public class PipelineReport {
+    private final long claims;
+    private final long blockedNanos;
+    private final long elapsedNanos;
+    private final StageMetrics evaluation;
+    private final StageMetrics application;
+
+    PipelineReport(long claims, long blockedNanos, long elapsedNanos, StageMetrics evaluation, StageMetrics application) {
+        this.claims = claims;
+        this.blockedNanos = blockedNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.evaluation = evaluation;
+        this.application = application;
+    }
+
+    public long getClaims() {
+        return this.claims;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(this.elapsedNanos);
+    }
+
+    public Duration getBlocked() {
+        return Duration.ofNanos(this.blockedNanos);
+    }
+
+    public StageMetrics getEvaluation() {
+        return this.evaluation;
+    }
+
+    public StageMetrics getApplication() {
+        return this.application;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d claims in %s, blocked for %s%n  %s%n  %s",
+                this.claims, this.getElapsed(), this.getBlocked(), this.evaluation, this.application);
+    }
+}
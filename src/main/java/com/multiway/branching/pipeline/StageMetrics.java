@@ -0,0 +1,73 @@
+package com.multiway.branching.pipeline;
+
+import java.time.Duration;
+
+/**
+ * What one stage of a pipeline did during a run
+ * Busy time is spent handling items, latency also counts the time items waited in the queue of the stage
+ */
+public class StageMetrics {
+    private final String name;
+    private final int threads;
+    private final long processed;
+    private final long failed;
+    private final long busyNanos;
+    private final long latencyNanos;
+    private final long maxLatencyNanos;
+    private final long elapsedNanos;
+
+    StageMetrics(String name, int threads, long processed, long failed,
+                 long busyNanos, long latencyNanos, long maxLatencyNanos, long elapsedNanos) {
+        this.name = name;
+        this.threads = threads;
+        this.processed = processed;
+        this.failed = failed;
+        this.busyNanos = busyNanos;
+        this.latencyNanos = latencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    public long getProcessed() {
+        return this.processed;
+    }
+
+    public long getFailed() {
+        return this.failed;
+    }
+
+    public double getThroughputPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.processed * 1e9 / this.elapsedNanos;
+    }
+
+    public Duration getMeanLatency() {
+        return Duration.ofNanos(this.processed == 0 ? 0 : this.latencyNanos / this.processed);
+    }
+
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(this.maxLatencyNanos);
+    }
+
+    /**
+     * Share of the time its threads spent handling items, close to 1 for the stage holding the pipeline back
+     * @return
+     */
+    public double getUtilization() {
+        return this.elapsedNanos == 0 ? 0 : (double) this.busyNanos / this.elapsedNanos / this.threads;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s on %d: %d done, %d failed, %.0f/s, latency mean %s max %s, %.0f%% busy",
+                this.name, this.threads, this.processed, this.failed, this.getThroughputPerSecond(),
+                this.getMeanLatency(), this.getMaxLatency(), 100 * this.getUtilization());
+    }
+}
@@ -12,8 +12,8 @@ import java.util.Optional;
  * @param <T1>
  */
 public class AppendingCondition<T extends DeviceStatus, T1 extends DeviceStatus> implements RootCondition<T1> {
-    private RootCondition<T> first;
-    private ExtendingCondition<T, T1> second;
+    private final RootCondition<T> first;
+    private final ExtendingCondition<T, T1> second;
 
     public AppendingCondition(RootCondition<T> first, ExtendingCondition<T, T1> second) {
         this.first = first;
@@ -26,4 +26,10 @@ public class AppendingCondition<T extends DeviceStatus, T1 extends DeviceStatus>
                 .map(this.second::applicableTo)
                 .orElse(Optional.empty());
     }
+
+    @Override
+    public Optional<StatusShapes> shapes() {
+        return this.first.shapes()
+                .flatMap(firstShapes -> this.second.shapes().map(firstShapes::and));
+    }
 }
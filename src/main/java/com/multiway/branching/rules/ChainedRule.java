@@ -11,8 +11,8 @@ import java.util.Optional;
  * We can consider, packaging technical classes together with abstractions
  */
 public class ChainedRule implements ClaimingRule {
-    private ClaimingRule head;
-    private ClaimingRule tail;
+    private final ClaimingRule head;
+    private final ClaimingRule tail;
 
     public ChainedRule(ClaimingRule head, ClaimingRule tail) {
         this.head = head;
@@ -35,4 +35,9 @@ public class ChainedRule implements ClaimingRule {
                 .map(Optional::of)
                 .orElse(tail.applicableTo(status));
     }
+
+    @Override
+    public ClaimingRule compile() {
+        return CompiledRule.firstOf(this.head.compile(), this.tail.compile(), this);
+    }
 }
@@ -0,0 +1,99 @@
+package com.multiway.branching.rules;
+
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.ClaimingRulesBuilder;
+import com.multiway.branching.builders.ExhaustiveRulesBuilder;
+import com.multiway.branching.builders.PartitioningRulesBuilder;
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.OperationalStatus;
+import com.multiway.branching.states.SensorFailedStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Claims the rules of a builder make for every status shape, in the order the rules make them
+ * Found once, by building the rules with actions which only write down the claim, and running them on a status of each shape
+ * That is only sound when the shape alone decides, so rules which do not compile to a single table are not tabulated
+ * Tables hold no actions and never change, so a kept table is shared by every thread
+ * Only the builders of this library are known to add nothing to their rules but the actions, one table per class is kept
+ * Rules of any other builder may depend on its state, so its table is probed again for every shared rule
+ */
+class ClaimTable {
+    enum Claim { MONEY_BACK, EXPRESS, EXTENDED }
+
+    private static final ConcurrentMap<Class<?>, ClaimTable> TABLES = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> STATELESS_BUILDERS = new HashSet<>(Arrays.asList(
+            ExhaustiveRulesBuilder.class, PartitioningRulesBuilder.class));
+    private static final LocalDate PROBING_DATE = LocalDate.of(2000, 1, 1);
+    private static final int OPERATIONAL_STATES = 8;
+    private static final int SENSOR_FAILED_TYPE = 8;
+
+    private final Claim[][] claims;
+
+    private ClaimTable(Claim[][] claims) {
+        this.claims = claims;
+    }
+
+    /**
+     * Table of the rules built by the factory, kept by the class of the builder for the builders of this library
+     * Subclasses are not theirs, they may keep state of their own
+     * @param rulesBuilderFactory
+     * @return table, or null when the rules cannot be tabulated
+     */
+    static ClaimTable of(Supplier<ClaimingRulesBuilder> rulesBuilderFactory) {
+        ClaimingRulesBuilder builder = rulesBuilderFactory.get();
+        return STATELESS_BUILDERS.contains(builder.getClass())
+                ? TABLES.computeIfAbsent(builder.getClass(), type -> probe(builder)).orNull()
+                : probe(builder).orNull();
+    }
+
+    private ClaimTable orNull() {
+        return this.claims == null ? null : this;
+    }
+
+    private static ClaimTable probe(ClaimingRulesBuilder builder) {
+        List<Claim> made = new ArrayList<>();
+        ClaimingRule rule = builder
+                .onMoneyBack(s -> made.add(Claim.MONEY_BACK))
+                .onClaimExpress(s -> made.add(Claim.EXPRESS))
+                .onClaimExtend(s -> made.add(Claim.EXTENDED))
+                .build();
+        if (!(rule.compile() instanceof CompiledRule)) {
+            return new ClaimTable(null);
+        }
+
+        Claim[][] claims = new Claim[StatusShapes.SLOTS][];
+        for (int state = 0; state < OPERATIONAL_STATES; state++) {
+            DeviceStatus plain = DeviceStatus.of(OperationalStatus.of(state));
+            claims[StatusShapes.slotOf(plain)] = claimsOf(rule, plain, made);
+            DeviceStatus sensorFailed = new SensorFailedStatus(PROBING_DATE, OperationalStatus.of(state));
+            claims[StatusShapes.slotOf(sensorFailed)] = claimsOf(rule, sensorFailed, made);
+        }
+        return new ClaimTable(claims);
+    }
+
+    /**
+     * Claims made for the status, or null when the rule does not apply to it
+     */
+    private static Claim[] claimsOf(ClaimingRule rule, DeviceStatus status, List<Claim> made) {
+        made.clear();
+        return rule.applyTo(status) ? made.toArray(new Claim[0]) : null;
+    }
+
+    /**
+     * Claims for statuses of the slot, or null when the rules do not apply to them
+     * @param slot
+     * @return
+     */
+    Claim[] claimsOf(int slot) {
+        return this.claims[slot];
+    }
+}
@@ -0,0 +1,118 @@
+package com.multiway.branching.rules;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.states.DeviceStatus;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Decision table of a claiming rule, with one entry per status shape
+ * Finding the action is a single array lookup, instead of walking the chain of rules and conditions
+ * Statuses of unknown shape are left to the rule this table was compiled from
+ */
+public class CompiledRule implements ClaimingRule {
+    private final Consumer<DeviceStatus>[] actions;
+    private final ClaimingRule interpreted;
+
+    private CompiledRule(Consumer<DeviceStatus>[] actions, ClaimingRule interpreted) {
+        this.actions = actions;
+        this.interpreted = interpreted;
+    }
+
+    /**
+     * Rule applying the action to statuses of the given shapes
+     * @param shapes
+     * @param action
+     * @param interpreted
+     * @return
+     */
+    static CompiledRule of(StatusShapes shapes, Consumer<DeviceStatus> action, ClaimingRule interpreted) {
+        Consumer<DeviceStatus>[] actions = newTable();
+        for (int slot = 0; slot < StatusShapes.SLOTS; slot++) {
+            actions[slot] = shapes.contains(slot) ? action : null;
+        }
+        return new CompiledRule(actions, interpreted);
+    }
+
+    /**
+     * Same as ChainedRule - the head decides wherever it applies, the tail everywhere else
+     * Stays a ChainedRule of the compiled parts when either part could not be compiled
+     * @param head
+     * @param tail
+     * @param interpreted
+     * @return
+     */
+    static ClaimingRule firstOf(ClaimingRule head, ClaimingRule tail, ClaimingRule interpreted) {
+        if (!(head instanceof CompiledRule) || !(tail instanceof CompiledRule)) {
+            return new ChainedRule(head, tail);
+        }
+        Consumer<DeviceStatus>[] first = ((CompiledRule) head).actions;
+        Consumer<DeviceStatus>[] second = ((CompiledRule) tail).actions;
+        Consumer<DeviceStatus>[] actions = newTable();
+        for (int slot = 0; slot < StatusShapes.SLOTS; slot++) {
+            actions[slot] = first[slot] != null ? first[slot] : second[slot];
+        }
+        return new CompiledRule(actions, interpreted);
+    }
+
+    /**
+     * Same as WithRule - where both rules apply, the first action runs before the second
+     * Stays a WithRule of the compiled parts when either part could not be compiled
+     * @param first
+     * @param second
+     * @param interpreted
+     * @return
+     */
+    static ClaimingRule both(ClaimingRule first, ClaimingRule second, ClaimingRule interpreted) {
+        if (!(first instanceof CompiledRule) || !(second instanceof CompiledRule)) {
+            return new WithRule(first, second);
+        }
+        Consumer<DeviceStatus>[] firstActions = ((CompiledRule) first).actions;
+        Consumer<DeviceStatus>[] secondActions = ((CompiledRule) second).actions;
+        Consumer<DeviceStatus>[] actions = newTable();
+        for (int slot = 0; slot < StatusShapes.SLOTS; slot++) {
+            actions[slot] = firstActions[slot] == null ? secondActions[slot]
+                    : secondActions[slot] == null ? firstActions[slot]
+                    : firstActions[slot].andThen(secondActions[slot]);
+        }
+        return new CompiledRule(actions, interpreted);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Consumer<DeviceStatus>[] newTable() {
+        return (Consumer<DeviceStatus>[]) new Consumer[StatusShapes.SLOTS];
+    }
+
+    @Override
+    public Optional<Action> applicableTo(DeviceStatus status) {
+        int slot = StatusShapes.slotOf(status);
+        if (slot < 0) {
+            return this.interpreted.applicableTo(status);
+        }
+        Consumer<DeviceStatus> action = this.actions[slot];
+        return action == null
+                ? Optional.empty()
+                : Optional.of(new ReducedRule<>(status, action));
+    }
+
+    @Override
+    public boolean applyTo(DeviceStatus status) {
+        int slot = StatusShapes.slotOf(status);
+        if (slot < 0) {
+            return this.interpreted.applyTo(status);
+        }
+        Consumer<DeviceStatus> action = this.actions[slot];
+        if (action == null) {
+            return false;
+        }
+        action.accept(status);
+        return true;
+    }
+
+    @Override
+    public ClaimingRule compile() {
+        return this;
+    }
+}
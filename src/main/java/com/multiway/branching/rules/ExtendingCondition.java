@@ -12,4 +12,8 @@ import java.util.Optional;
  */
 public interface ExtendingCondition<T1 extends DeviceStatus, T2 extends DeviceStatus> {
     Optional<T2> applicableTo(T1 status);
+
+    default Optional<StatusShapes> shapes() {
+        return Optional.empty();
+    }
 }
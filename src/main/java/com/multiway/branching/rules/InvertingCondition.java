@@ -5,7 +5,7 @@ import com.multiway.branching.states.DeviceStatus;
 import java.util.Optional;
 
 public class InvertingCondition implements RootCondition<DeviceStatus> {
-    private RootCondition<DeviceStatus> target;
+    private final RootCondition<DeviceStatus> target;
 
     public InvertingCondition(RootCondition<DeviceStatus> target) {
         this.target = target;
@@ -17,4 +17,9 @@ public class InvertingCondition implements RootCondition<DeviceStatus> {
                 .map(s -> Optional.<DeviceStatus>empty())
                 .orElse(Optional.of(status));
     }
+
+    @Override
+    public Optional<StatusShapes> shapes() {
+        return this.target.shapes().map(StatusShapes::not);
+    }
 }
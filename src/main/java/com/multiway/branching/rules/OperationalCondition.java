@@ -6,7 +6,7 @@ import com.multiway.branching.states.OperationalStatus;
 import java.util.Optional;
 
 public class OperationalCondition<T extends DeviceStatus> implements ExtendingCondition<T, T> {
-    private OperationalStatus pattern;
+    private final OperationalStatus pattern;
 
     public OperationalCondition(OperationalStatus pattern) {
         this.pattern = pattern;
@@ -22,4 +22,9 @@ public class OperationalCondition<T extends DeviceStatus> implements ExtendingCo
     public Optional<T> applicableTo(T status) {
         return status.matches(this.pattern).map(s -> status);
     }
+
+    @Override
+    public Optional<StatusShapes> shapes() {
+        return Optional.of(StatusShapes.matching(this.pattern));
+    }
 }
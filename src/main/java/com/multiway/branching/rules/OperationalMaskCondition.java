@@ -6,7 +6,7 @@ import com.multiway.branching.states.OperationalStatus;
 import java.util.Optional;
 
 public class OperationalMaskCondition<T extends DeviceStatus> implements ExtendingCondition<T, T> {
-    private OperationalStatus pattern;
+    private final OperationalStatus pattern;
 
     public OperationalMaskCondition(OperationalStatus pattern) {
         this.pattern = pattern;
@@ -16,4 +16,9 @@ public class OperationalMaskCondition<T extends DeviceStatus> implements Extendi
     public Optional<T> applicableTo(T status) {
         return status.isSupersetOf(this.pattern).map(s -> status);
     }
+
+    @Override
+    public Optional<StatusShapes> shapes() {
+        return Optional.of(StatusShapes.including(this.pattern));
+    }
 }
@@ -18,6 +18,15 @@ import java.util.function.Consumer;
 public interface RootCondition<T extends DeviceStatus> {
     Optional<T> applicableTo(DeviceStatus status);
 
+    /**
+     * Shapes of the statuses this condition accepts, when the shape alone decides it
+     * Such conditions pass the status on unchanged, so their rules can be compiled
+     * @return
+     */
+    default Optional<StatusShapes> shapes() {
+        return Optional.empty();
+    }
+
     /**
      * Any concrete status that has passed the condition check, will be consumed by a strong retyped action
      * Stored that knowledge in the object of class RuleFixture
@@ -15,8 +15,8 @@ import java.util.function.Consumer;
  * All those rules will remain there, without the exposure to consumers
  */
 public class RuleFixture<T extends DeviceStatus> implements ClaimingRule {
-    private RootCondition<T> condition;
-    private Consumer<T> action;
+    private final RootCondition<T> condition;
+    private final Consumer<T> action;
 
     public RuleFixture(RootCondition<T> condition, Consumer<T> action) {
         this.condition = condition;
@@ -29,4 +29,16 @@ public class RuleFixture<T extends DeviceStatus> implements ClaimingRule {
                 .applicableTo(status)
                 .map(s -> new ReducedRule<>(s, this.action));
     }
+
+    /**
+     * The condition passes statuses on unchanged, so every status it accepts is already of type T
+     * @return
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ClaimingRule compile() {
+        return this.condition.shapes()
+                .<ClaimingRule>map(shapes -> CompiledRule.of(shapes, status -> this.action.accept((T) status), this))
+                .orElse(this);
+    }
 }
@@ -0,0 +1,129 @@
+package com.multiway.branching.rules;
+
+import com.multiway.branching.Action;
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.ClaimingRulesBuilder;
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.SensorFailedStatus;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Claiming rules built once and shared, with actions bound to a context on every claim instead of captured by the rules
+ * The context is whatever the actions need besides the status - an article, a claim request
+ * Statuses of a known shape are claimed from a table shared by all rules of the same builder class
+ * Any other status, or rules which depend on more than the shape, get rules built for that one claim, as before
+ * Safe to use from many threads at once, as long as the actions are
+ * @param <C> type of the context
+ */
+public class SharedRule<C> {
+    private final Supplier<ClaimingRulesBuilder> rulesBuilderFactory;
+    private final ClaimTable table;
+    private final BiConsumer<C, DeviceStatus> moneyBack;
+    private final BiConsumer<C, DeviceStatus> express;
+    private final BiConsumer<C, SensorFailedStatus> extended;
+
+    private SharedRule(Supplier<ClaimingRulesBuilder> rulesBuilderFactory, ClaimTable table,
+                       BiConsumer<C, DeviceStatus> moneyBack,
+                       BiConsumer<C, DeviceStatus> express,
+                       BiConsumer<C, SensorFailedStatus> extended) {
+        this.rulesBuilderFactory = rulesBuilderFactory;
+        this.table = table;
+        this.moneyBack = moneyBack;
+        this.express = express;
+        this.extended = extended;
+    }
+
+    /**
+     * Rules of the builders the factory makes, with the three actions taking the context of a claim
+     * @param rulesBuilderFactory
+     * @param moneyBack
+     * @param express
+     * @param extended
+     * @param <C>
+     * @return
+     */
+    public static <C> SharedRule<C> of(Supplier<ClaimingRulesBuilder> rulesBuilderFactory,
+                                       BiConsumer<C, DeviceStatus> moneyBack,
+                                       BiConsumer<C, DeviceStatus> express,
+                                       BiConsumer<C, SensorFailedStatus> extended) {
+        return new SharedRule<>(rulesBuilderFactory, ClaimTable.of(rulesBuilderFactory), moneyBack, express, extended);
+    }
+
+    public Optional<Action> applicableTo(C context, DeviceStatus status) {
+        int slot = this.table == null ? -1 : StatusShapes.slotOf(status);
+        if (slot < 0) {
+            return this.buildFor(context).applicableTo(status);
+        }
+        ClaimTable.Claim[] claims = this.table.claimsOf(slot);
+        return claims == null
+                ? Optional.empty()
+                : Optional.of(() -> this.claim(context, status, claims));
+    }
+
+    /**
+     * Claims for the status right away, without building an Action
+     * @param context
+     * @param status
+     * @return whether the rules applied to the status
+     */
+    public boolean applyTo(C context, DeviceStatus status) {
+        int slot = this.table == null ? -1 : StatusShapes.slotOf(status);
+        if (slot < 0) {
+            return this.buildFor(context).applyTo(status);
+        }
+        ClaimTable.Claim[] claims = this.table.claimsOf(slot);
+        if (claims == null) {
+            return false;
+        }
+        this.claim(context, status, claims);
+        return true;
+    }
+
+    /**
+     * Rule claiming everything for the one context
+     * @param context
+     * @return
+     */
+    public ClaimingRule bindTo(C context) {
+        return new ClaimingRule() {
+            @Override
+            public Optional<Action> applicableTo(DeviceStatus status) {
+                return SharedRule.this.applicableTo(context, status);
+            }
+
+            @Override
+            public boolean applyTo(DeviceStatus status) {
+                return SharedRule.this.applyTo(context, status);
+            }
+        };
+    }
+
+    private ClaimingRule buildFor(C context) {
+        return this.rulesBuilderFactory.get()
+                .onMoneyBack(s -> this.moneyBack.accept(context, s))
+                .onClaimExpress(s -> this.express.accept(context, s))
+                .onClaimExtend(s -> this.extended.accept(context, s))
+                .build();
+    }
+
+    /**
+     * A status has the exact type of its slot, the sensor failed slots belong to SensorFailedStatus alone
+     */
+    private void claim(C context, DeviceStatus status, ClaimTable.Claim[] claims) {
+        for (ClaimTable.Claim claim : claims) {
+            switch (claim) {
+                case MONEY_BACK:
+                    this.moneyBack.accept(context, status);
+                    break;
+                case EXPRESS:
+                    this.express.accept(context, status);
+                    break;
+                default:
+                    this.extended.accept(context, (SensorFailedStatus) status);
+            }
+        }
+    }
+}
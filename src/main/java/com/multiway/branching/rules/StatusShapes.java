@@ -0,0 +1,95 @@
+package com.multiway.branching.rules;
+
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.OperationalStatus;
+import com.multiway.branching.states.SensorFailedStatus;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Set of status shapes a condition accepts
+ * The shape of a status is its operational bitmask together with its runtime type
+ * Three bits of operational status and two known status types give sixteen shapes, each one is a slot
+ * Statuses of other shapes are unknown to the set, conditions have to be evaluated on them
+ */
+public class StatusShapes {
+    public static final int SLOTS = 16;
+    private static final int OPERATIONAL_BITS = 7;
+    private static final int SENSOR_FAILED_TYPE = 8;
+
+    private final int slots;
+
+    private StatusShapes(int slots) {
+        this.slots = slots;
+    }
+
+    public static StatusShapes none() {
+        return new StatusShapes(0);
+    }
+
+    public static StatusShapes all() {
+        return new StatusShapes((1 << SLOTS) - 1);
+    }
+
+    /**
+     * Shapes of statuses which are instances of the type
+     * @param statusType
+     * @return
+     */
+    public static StatusShapes ofType(Class<? extends DeviceStatus> statusType) {
+        return where(slot -> statusType.isAssignableFrom(typeOf(slot)));
+    }
+
+    public static StatusShapes matching(OperationalStatus pattern) {
+        int mask = pattern.asBitmask();
+        return where(slot -> (slot & OPERATIONAL_BITS) == mask);
+    }
+
+    public static StatusShapes including(OperationalStatus pattern) {
+        int mask = pattern.asBitmask();
+        return where(slot -> (slot & OPERATIONAL_BITS & mask) == mask);
+    }
+
+    private static StatusShapes where(IntPredicate accepts) {
+        int slots = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (accepts.test(slot)) {
+                slots |= 1 << slot;
+            }
+        }
+        return new StatusShapes(slots);
+    }
+
+    private static Class<? extends DeviceStatus> typeOf(int slot) {
+        return (slot & SENSOR_FAILED_TYPE) == 0 ? DeviceStatus.class : SensorFailedStatus.class;
+    }
+
+    /**
+     * Slot of the status, or -1 when its shape is unknown
+     * Only exact status types have a slot, subclasses may add state the conditions look at
+     * @param status
+     * @return
+     */
+    public static int slotOf(DeviceStatus status) {
+        int mask = status.asBitmask();
+        if ((mask & ~OPERATIONAL_BITS) != 0) {
+            return -1;
+        }
+        Class<?> statusType = status.getClass();
+        return statusType == DeviceStatus.class ? mask
+                : statusType == SensorFailedStatus.class ? mask | SENSOR_FAILED_TYPE
+                : -1;
+    }
+
+    public StatusShapes and(StatusShapes other) {
+        return new StatusShapes(this.slots & other.slots);
+    }
+
+    public StatusShapes not() {
+        return new StatusShapes(~this.slots & all().slots);
+    }
+
+    public boolean contains(int slot) {
+        return (this.slots & (1 << slot)) != 0;
+    }
+}
@@ -5,7 +5,7 @@ import com.multiway.branching.states.DeviceStatus;
 import java.util.Optional;
 
 public class StatusTypeCondition<T extends DeviceStatus> implements RootCondition<T>, ExtendingCondition<DeviceStatus, T> {
-    private Class<T> statusType;
+    private final Class<T> statusType;
 
     public StatusTypeCondition(Class<T> statusType) {
         this.statusType = statusType;
@@ -19,8 +19,13 @@ public class StatusTypeCondition<T extends DeviceStatus> implements RootConditio
      */
     @Override
     public Optional<T> applicableTo(DeviceStatus status) {
-        return this.statusType.isAssignableFrom(statusType.getClass())
+        return this.statusType.isAssignableFrom(status.getClass())
                 ? Optional.of((T)status)
                 : Optional.empty();
     }
+
+    @Override
+    public Optional<StatusShapes> shapes() {
+        return Optional.of(StatusShapes.ofType(this.statusType));
+    }
 }
@@ -7,8 +7,8 @@ import com.multiway.branching.states.DeviceStatus;
 import java.util.Optional;
 
 public class WithRule implements ClaimingRule {
-    private ClaimingRule first;
-    private ClaimingRule second;
+    private final ClaimingRule first;
+    private final ClaimingRule second;
 
     public WithRule(ClaimingRule first, ClaimingRule second) {
         this.first = first;
@@ -22,6 +22,11 @@ public class WithRule implements ClaimingRule {
                 .orElse(this.second.applicableTo(status));
     }
 
+    @Override
+    public ClaimingRule compile() {
+        return CompiledRule.both(this.first.compile(), this.second.compile(), this);
+    }
+
     private Optional<Action> applicableToFirst(Action firstAction, DeviceStatus status) {
         return second.applicableTo(status)
                 .map(secondAction -> Optional.of(this.both(firstAction, secondAction)))
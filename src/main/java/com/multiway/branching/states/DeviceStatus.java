@@ -6,22 +6,45 @@ import java.util.Optional;
 
 public class DeviceStatus {
 
+    /**
+     * Statuses without a sensor failure carry nothing but their operational state, so they are shared
+     */
+    private static final DeviceStatus[] CANONICAL = new DeviceStatus[8];
+    static {
+        for (int representation = 0; representation < CANONICAL.length; representation++) {
+            CANONICAL[representation] = new DeviceStatus(OperationalStatus.of(representation));
+        }
+    }
+
     private final OperationalStatus state;
+    private Optional<DeviceStatus> asOptional;
 
     public DeviceStatus(OperationalStatus state) {
         this.state = state;
     }
 
+    /**
+     * Canonical instance of a status in a known operational state
+     * @param state
+     * @return
+     */
+    public static DeviceStatus of(OperationalStatus state) {
+        int representation = state.asBitmask();
+        return representation >= 0 && representation < CANONICAL.length
+                ? CANONICAL[representation]
+                : new DeviceStatus(state);
+    }
+
     public static DeviceStatus allFine() {
-        return new DeviceStatus(OperationalStatus.allFine());
+        return of(OperationalStatus.allFine());
     }
 
     public static DeviceStatus notOperational() {
-        return new DeviceStatus(OperationalStatus.notOperational());
+        return of(OperationalStatus.notOperational());
     }
 
     public static DeviceStatus visiblyDamaged(){
-        return new DeviceStatus(OperationalStatus.visiblyDamaged());
+        return of(OperationalStatus.visiblyDamaged());
     }
 
     /**
@@ -34,11 +57,11 @@ public class DeviceStatus {
     }
 
     public DeviceStatus andNotOperational() {
-        return new DeviceStatus(this.state.andNotOperational());
+        return of(this.state.andNotOperational());
     }
 
     public DeviceStatus andVisiblyDamaged(){
-        return new DeviceStatus(this.state.andVisiblyDamaged());
+        return of(this.state.andVisiblyDamaged());
     }
 
     public DeviceStatus andSensorFailed(LocalDate detectedOn){
@@ -46,17 +69,32 @@ public class DeviceStatus {
     }
 
     public Optional<DeviceStatus> matches(OperationalStatus pattern) {
-        return this.state.equals(pattern)
-                ? Optional.of(this)
+        return this.state == pattern || this.state.equals(pattern)
+                ? this.asOptional()
                 : Optional.empty();
     }
 
     public Optional<DeviceStatus> isSupersetOf(OperationalStatus pattern) {
         return this.state.isSupersetOf(pattern)
-                ? Optional.of(this)
+                ? this.asOptional()
                 : Optional.empty();
     }
 
+    /**
+     * Statuses are immutable, so the Optional wrapping one can be reused by every condition it passes
+     * @return
+     */
+    private Optional<DeviceStatus> asOptional() {
+        if (this.asOptional == null) {
+            this.asOptional = Optional.of(this);
+        }
+        return this.asOptional;
+    }
+
+    public int asBitmask() {
+        return this.state.asBitmask();
+    }
+
     @Override
     public String toString() {
         return this.state.toString();
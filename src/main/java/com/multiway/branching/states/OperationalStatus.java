@@ -7,20 +7,49 @@ public class OperationalStatus {
      * Static final fields are not the right place to contain responsibilities
      */
 //    public static final DeviceStatus ALL_FINE = new DeviceStatus(0);
-    public static OperationalStatus allFine() { return new OperationalStatus(0);}
+    public static OperationalStatus allFine() { return of(0);}
 //    public static final DeviceStatus NOT_OPERATIONAL = new DeviceStatus(2);
-    public static OperationalStatus notOperational() { return new OperationalStatus(1);}
+    public static OperationalStatus notOperational() { return of(1);}
 //    public static final DeviceStatus VISIBLY_DAMAGED = new DeviceStatus(3);
-    public static OperationalStatus visiblyDamaged(){ return new OperationalStatus(2);}
+    public static OperationalStatus visiblyDamaged(){ return of(2);}
 
     //    public static final DeviceStatus SENSOR_FAILED = new DeviceStatus(4);
-    public static OperationalStatus sensorFailed() { return new OperationalStatus(4);}
+    public static OperationalStatus sensorFailed() { return of(4);}
+
+    private static final int NOT_OPERATIONAL = 1;
+    private static final int VISIBLY_DAMAGED = 2;
+    private static final int SENSOR_FAILED = 4;
+
+    /**
+     * Only eight operational states exist, each one is created once and shared, together with its description
+     */
+    private static final OperationalStatus[] CANONICAL = new OperationalStatus[8];
+    private static final String[] DESCRIPTIONS = new String[CANONICAL.length];
+    static {
+        for (int representation = 0; representation < CANONICAL.length; representation++) {
+            CANONICAL[representation] = new OperationalStatus(representation);
+            DESCRIPTIONS[representation] = describe(representation);
+        }
+    }
 
     private final int representation;
     public OperationalStatus(int representation) {
         this.representation = representation;
     }
 
+    /**
+     * Canonical instance of a known operational state, a new one only for unknown representations
+     * @param representation
+     * @return
+     */
+    public static OperationalStatus of(int representation) {
+        return isCanonical(representation) ? CANONICAL[representation] : new OperationalStatus(representation);
+    }
+
+    private static boolean isCanonical(int representation) {
+        return representation >= 0 && representation < CANONICAL.length;
+    }
+
     public OperationalStatus andNotOperational() {
         return this.add(notOperational());
     }
@@ -37,6 +66,10 @@ public class OperationalStatus {
         return (this.representation & other.representation) == other.representation;
     }
 
+    public int asBitmask() {
+        return this.representation;
+    }
+
 //    public static final DeviceStatus SENSOR_FAILED = new DeviceStatus(4);
 //    public static DeviceStatus sensorFailed(LocalDate detectedOn) { return new DeviceStatus(4);}
 //    public static final DeviceStatus NOT_OPERATIONAL_DAMAGE = combine(NOT_OPERATIONAL, VISIBLY_DAMAGED);
@@ -59,7 +92,7 @@ public class OperationalStatus {
 //    }
 
     public OperationalStatus add(OperationalStatus status) {
-        return new OperationalStatus(this.representation | status.representation);
+        return of(this.representation | status.representation);
 //        return Stream.of(
 //                ALL_FINE, NOT_OPERATIONAL, VISIBLY_DAMAGED, SENSOR_FAILED, NOT_OPERATIONAL_DAMAGE, NOT_OPERATIONAL_SENSOR_FAILED,
 //                DAMAGED_SENSOR_FAILED, NOT_OPERATIONAL_DAMAGE_SENSOR_FAILED)
@@ -70,7 +103,7 @@ public class OperationalStatus {
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof OperationalStatus && this.equals((OperationalStatus) o);
+        return this == o || o instanceof OperationalStatus && this.equals((OperationalStatus) o);
     }
 
     private boolean equals(OperationalStatus other) {
@@ -85,17 +118,21 @@ public class OperationalStatus {
 
     @Override
     public String toString() {
+        return isCanonical(this.representation) ? DESCRIPTIONS[this.representation] : describe(this.representation);
+    }
+
+    private static String describe(int representation) {
         String result = "";
         String separator = "";
-        if(this.isSupersetOf(notOperational())) {
+        if((representation & NOT_OPERATIONAL) == NOT_OPERATIONAL) {
             result += separator + "Not Operational";
             separator = " + ";
         }
-        if(this.isSupersetOf(visiblyDamaged())) {
+        if((representation & VISIBLY_DAMAGED) == VISIBLY_DAMAGED) {
             result += separator + "Damaged";
             separator = " + ";
         }
-        if(this.isSupersetOf(sensorFailed())) {
+        if((representation & SENSOR_FAILED) == SENSOR_FAILED) {
             result += separator + "Sensor Failed";
         }
         return result;
@@ -1,14 +1,19 @@
 package com.refactoring;
 
+/**
+ * Algorithms reading digits from the least significant one are served by their tabulated equivalents
+ */
 public interface ControlDigit {
     static ControlDigitAlgorithm accountingAlgorithm() {
-        return PonderingModuleAlgorithm.multipleDigitsModule(
-                StraightNumber::getDigitsFromLeastSignificant, 11, 0, new int[]{3,1});
+        return TabulatedModuleAlgorithm.multipleDigitsModule(11, 0, new int[]{3,1});
+//        return PonderingModuleAlgorithm.multipleDigitsModule(
+//                StraightNumber::getDigitsFromLeastSignificant, 11, 0, new int[]{3,1});
     }
 
     static ControlDigitAlgorithm salesAlgorithm() {
-        return PonderingModuleAlgorithm.singleDigitsModule(
-                StraightNumber::getDigitsFromLeastSignificant, 7, 7, new int[]{3,1});
+        return TabulatedModuleAlgorithm.singleDigitsModule(7, 7, new int[]{3,1});
+//        return PonderingModuleAlgorithm.singleDigitsModule(
+//                StraightNumber::getDigitsFromLeastSignificant, 7, 7, new int[]{3,1});
     }
 
     /**
@@ -16,7 +21,6 @@ public interface ControlDigit {
      * @return
      */
     static ControlDigitAlgorithm salesAlgorithmMay2017() {
-        return PonderingModuleAlgorithm.singleDigitsModule(
-                StraightNumber::getDigitsFromLeastSignificant, 7, 7, new int[]{3,1});
+        return TabulatedModuleAlgorithm.singleDigitsModule(7, 7, new int[]{3,1});
     }
 }
@@ -5,4 +5,8 @@ package com.refactoring;
  */
 public interface ControlDigitAlgorithm {
     int getControlDigit(StraightNumber number);
+
+    default int getControlDigit(int number) {
+        return this.getControlDigit(new StraightNumber(number));
+    }
 }
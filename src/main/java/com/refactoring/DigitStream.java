@@ -1,6 +1,7 @@
 package com.refactoring;
 
 import com.domain.logic.with.streams.ForwardingStream;
+import com.google.common.collect.Streams;
 
 import java.util.Arrays;
 import java.util.function.UnaryOperator;
@@ -40,15 +41,14 @@ public class DigitStream implements ForwardingStream<Integer> {
         // this function - Traverses tow streams in lock step and apply a function to each pair of objects it finds
         // in our case, the function will be to multiply integers
         // zip operation terminates when one of the streams is exhausted
-        return Streams.
-                .zip(
+        return Streams
+                .zip( // zip repeat factors together with the digit of document number
                         getStream(),
                         this.repeatEndlessly(factors),
                         (a, b) -> a * b
                 )
                 .mapToInt(n -> n)
                 .sum();
-        return this.getStream().zip(this.repeatEndlessly(factors)); // zip repeat factors together with the digit of document number
     }
 
     public StraightNumber multiplyWith(int... factors) {
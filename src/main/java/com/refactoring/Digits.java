@@ -0,0 +1,28 @@
+package com.refactoring;
+
+import java.util.stream.Stream;
+
+/**
+ * Digits of a positive number, from the least significant one
+ * Java 8 has no Stream.takeWhile, so the stream is cut after as many steps as the number has digits
+ */
+class Digits {
+
+    private Digits() {
+    }
+
+    static Stream<Integer> fromLeastSignificant(int value) {
+        return Stream
+                .iterate(value, n -> n / 10)
+                .limit(count(value))
+                .map(n -> n % 10);
+    }
+
+    private static int count(int value) {
+        int digits = 0;
+        for (int n = value; n > 0; n /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+}
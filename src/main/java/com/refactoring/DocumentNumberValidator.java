@@ -0,0 +1,196 @@
+package com.refactoring;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Validates files of document numbers, one record per line, as DocumentNumber prints them: 123456-1 or 123456- 1
+ * The file is memory mapped chunk by chunk and chunks are validated in parallel, records are read byte by byte
+ * A record belongs to the chunk it starts in, a chunk reads past its end to finish its last record
+ * Empty lines are skipped, every other line which is not a valid document number is reported by its offset
+ */
+public class DocumentNumberValidator {
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int LONGEST_RECORD = 64;
+
+    private final ControlDigitAlgorithm algorithm;
+    private final int chunkSize;
+
+    public DocumentNumberValidator(ControlDigitAlgorithm algorithm) {
+        this(algorithm, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DocumentNumberValidator(ControlDigitAlgorithm algorithm, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > Integer.MAX_VALUE - LONGEST_RECORD - 1) {
+            throw new IllegalArgumentException("Chunk size out of range: " + chunkSize);
+        }
+        this.algorithm = algorithm;
+        this.chunkSize = chunkSize;
+    }
+
+    public ValidationReport validate(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return this.validate(channel);
+        }
+    }
+
+    public ValidationReport validate(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int chunks = (int) ((size + this.chunkSize - 1) / this.chunkSize);
+        try {
+            List<Chunk> validated = IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(index -> this.validateChunk(channel, size, (long) index * this.chunkSize))
+                    .collect(Collectors.toList());
+            return ValidationReport.merge(validated.stream()
+                    .mapToLong(chunk -> chunk.records)
+                    .sum(), validated.stream()
+                    .map(chunk -> Arrays.copyOf(chunk.invalidOffsets, chunk.invalidCount))
+                    .collect(Collectors.toList()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Maps the byte before the chunk too, telling whether the chunk starts with a new record
+     */
+    private Chunk validateChunk(FileChannel channel, long size, long start) {
+        long mapFrom = Math.max(start - 1, 0);
+        long end = Math.min(start + this.chunkSize, size);
+        long mapTo = Math.min(end + LONGEST_RECORD, size);
+        try {
+            MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, mapFrom, mapTo - mapFrom);
+            return new Chunk(this, bytes, mapFrom, (int) (start - mapFrom), (int) (end - mapFrom), mapTo == size)
+                    .validate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records of one chunk, positions are relative to the mapped buffer
+     */
+    private static class Chunk {
+        private final DocumentNumberValidator validator;
+        private final MappedByteBuffer bytes;
+        private final long offset;
+        private final int start;
+        private final int end;
+        private final boolean reachesEndOfFile;
+        private long records;
+        private long[] invalidOffsets = new long[16];
+        private int invalidCount;
+
+        Chunk(DocumentNumberValidator validator, MappedByteBuffer bytes, long offset, int start, int end, boolean reachesEndOfFile) {
+            this.validator = validator;
+            this.bytes = bytes;
+            this.offset = offset;
+            this.start = start;
+            this.end = end;
+            this.reachesEndOfFile = reachesEndOfFile;
+        }
+
+        Chunk validate() {
+            int position = this.firstRecord();
+            while (position < this.end) {
+                int next = this.nextLine(position);
+                if (next < 0) {
+                    this.records++;
+                    this.invalid(position);
+                    break;
+                }
+                int lineEnd = next > position && this.bytes.get(next - 1) == '\n' ? next - 1 : next;
+                if (lineEnd > position && this.bytes.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (lineEnd > position) {
+                    this.records++;
+                    if (!this.isValid(position, lineEnd)) {
+                        this.invalid(position);
+                    }
+                }
+                position = next;
+            }
+            return this;
+        }
+
+        private int firstRecord() {
+            if (this.start == 0 || this.bytes.get(this.start - 1) == '\n') {
+                return this.start;
+            }
+            int position = this.start;
+            while (position < this.end && this.bytes.get(position) != '\n') {
+                position++;
+            }
+            return position + 1;
+        }
+
+        /**
+         * Position after the line starting at position, or -1 when the line does not end within the mapped bytes
+         */
+        private int nextLine(int position) {
+            int limit = this.bytes.limit();
+            while (position < limit) {
+                if (this.bytes.get(position++) == '\n') {
+                    return position;
+                }
+            }
+            return this.reachesEndOfFile ? limit : -1;
+        }
+
+        private boolean isValid(int from, int to) {
+            int position = from;
+            long number = 0;
+            while (position < to && isDigit(this.bytes.get(position))) {
+                number = number * 10 + (this.bytes.get(position++) - '0');
+                if (number > Integer.MAX_VALUE) {
+                    return false;
+                }
+            }
+            if (position == from || position == to || this.bytes.get(position++) != '-') {
+                return false;
+            }
+            if (position < to && this.bytes.get(position) == ' ') {
+                position++;
+            }
+
+            int digitFrom = position;
+            long digit = 0;
+            while (position < to && isDigit(this.bytes.get(position))) {
+                digit = digit * 10 + (this.bytes.get(position++) - '0');
+                if (digit > Integer.MAX_VALUE) {
+                    return false;
+                }
+            }
+            return position > digitFrom && position == to && this.hasControlDigit((int) number, (int) digit);
+        }
+
+        private boolean hasControlDigit(int number, int digit) {
+            try {
+                return this.validator.algorithm.getControlDigit(number) == digit;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static boolean isDigit(byte character) {
+            return character >= '0' && character <= '9';
+        }
+
+        private void invalid(int position) {
+            if (this.invalidCount == this.invalidOffsets.length) {
+                this.invalidOffsets = Arrays.copyOf(this.invalidOffsets, 2 * this.invalidCount);
+            }
+            this.invalidOffsets[this.invalidCount++] = this.offset + position;
+        }
+    }
+}
@@ -17,6 +17,10 @@ public class StraightNumber {
         this.value = value;
     }
 
+    int getValue() {
+        return this.value;
+    }
+
     /**
      * Decompose itself into digits
      * We will start by returning a Stream<Integer> - we can see later, if this deserves a class of its own
@@ -31,15 +35,17 @@ public class StraightNumber {
     public DigitStream getDigitsFromLeastSignificant() {
         // Separating digits
 //        return Stream
-        return DigitStream.of(Stream
-                /**
-                 * What do to in every iteration
-                 * Start from this.value, and apply n -> n / 10 on every iteration
-                 */
-                .iterate(this.value, n -> n / 10)
-                .takeWhile(n -> n > 0) // take the number while the condition is met
-                .map(n -> n % 10) // finite sequence of the least significant digit
-        );
+//        return DigitStream.of(Stream
+//                /**
+//                 * What do to in every iteration
+//                 * Start from this.value, and apply n -> n / 10 on every iteration
+//                 */
+//                .iterate(this.value, n -> n / 10)
+//                .takeWhile(n -> n > 0) // take the number while the condition is met
+//                .map(n -> n % 10) // finite sequence of the least significant digit
+//        );
+        // takeWhile is not part of Java 8, Digits has a Java 8 version and a Java 21 version of the same stream
+        return DigitStream.of(Digits.fromLeastSignificant(this.value));
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.refactoring;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Pondering module algorithm reading digits from the least significant one, compiled into a lookup table
+ * Every pair of digit positions has a table with the weighted sum of each of the hundred pairs of digits
+ * An int has at most ten digits, so the weighted sum takes five lookups and no objects
+ * Gives the same control digits as PonderingModuleAlgorithm, and rejects the same numbers with the same exceptions
+ */
+public class TabulatedModuleAlgorithm implements ControlDigitAlgorithm {
+    private static final int POSITION_PAIRS = 5;
+    private static final int DIGIT_PAIRS = 100;
+
+    private final int[] weightedDigitPairs;
+    private final int divisor;
+    private final IntUnaryOperator reduce;
+
+    private TabulatedModuleAlgorithm(int[] factors, int divisor, IntUnaryOperator reduce) {
+        this.weightedDigitPairs = tabulate(factors);
+        this.divisor = divisor;
+        this.reduce = reduce;
+    }
+
+    /**
+     * Same as PonderingModuleAlgorithm.multipleDigitsModule reading digits from the least significant one
+     * @param divisor
+     * @param substitute
+     * @param factors
+     * @return
+     */
+    public static ControlDigitAlgorithm multipleDigitsModule(int divisor, int substitute, int[] factors) {
+        return new TabulatedModuleAlgorithm(factors, divisor, modulo -> modulo < 10 ? modulo : substitute);
+    }
+
+    /**
+     * Same as PonderingModuleAlgorithm.singleDigitsModule reading digits from the least significant one
+     * @param divisor
+     * @param substitute
+     * @param factors
+     * @return
+     */
+    public static ControlDigitAlgorithm singleDigitsModule(int divisor, int substitute, int[] factors) {
+        return new TabulatedModuleAlgorithm(factors, divisor, modulo -> modulo >= 10 ? modulo : substitute);
+    }
+
+    /**
+     * Factors repeat from the least significant digit on, the same way DigitStream repeats them
+     * Sums are kept as plain ints, so they overflow exactly where the stream version does
+     */
+    private static int[] tabulate(int[] factors) {
+        int[] table = new int[POSITION_PAIRS * DIGIT_PAIRS];
+        for (int pair = 0; pair < POSITION_PAIRS; pair++) {
+            int lowFactor = factors[(2 * pair) % factors.length];
+            int highFactor = factors[(2 * pair + 1) % factors.length];
+            for (int digits = 0; digits < DIGIT_PAIRS; digits++) {
+                table[pair * DIGIT_PAIRS + digits] = digits % 10 * lowFactor + digits / 10 * highFactor;
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public int getControlDigit(StraightNumber number) {
+        return this.getControlDigit(number.getValue());
+    }
+
+    @Override
+    public int getControlDigit(int number) {
+        return this.reduce.applyAsInt(this.modulo(this.weightedSum(requirePositive(number))));
+    }
+
+    private int weightedSum(int number) {
+        int sum = 0;
+        for (int offset = 0; number > 0; offset += DIGIT_PAIRS) {
+            sum += this.weightedDigitPairs[offset + number % DIGIT_PAIRS];
+            number /= DIGIT_PAIRS;
+        }
+        return requirePositive(sum);
+    }
+
+    private int modulo(int sum) {
+        return requirePositive(sum % this.divisor);
+    }
+
+    /**
+     * StraightNumber only holds positive values, the stream version fails wherever it cannot create one
+     */
+    private static int requirePositive(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return value;
+    }
+}
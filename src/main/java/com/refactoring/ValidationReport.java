@@ -0,0 +1,145 @@
+package com.refactoring;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outcome of validating a file of document numbers - how many records it has, and where the invalid ones start
+ * Written compactly: the record count, the invalid count, then the gaps between ascending offsets, all as varints
+ * Invalid records close to each other cost a byte or two each
+ */
+public class ValidationReport {
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final long records;
+    private final long[] invalidOffsets;
+
+    private ValidationReport(long records, long[] invalidOffsets) {
+        this.records = records;
+        this.invalidOffsets = invalidOffsets;
+    }
+
+    /**
+     * Joins reports of consecutive chunks, offsets of every chunk are ascending and follow those of the chunk before
+     * @param records
+     * @param invalidOffsetsByChunk
+     * @return
+     */
+    static ValidationReport merge(long records, List<long[]> invalidOffsetsByChunk) {
+        long[] invalidOffsets = new long[invalidOffsetsByChunk.stream().mapToInt(offsets -> offsets.length).sum()];
+        int count = 0;
+        for (long[] offsets : invalidOffsetsByChunk) {
+            System.arraycopy(offsets, 0, invalidOffsets, count, offsets.length);
+            count += offsets.length;
+        }
+        return new ValidationReport(records, invalidOffsets);
+    }
+
+    public long getRecords() {
+        return this.records;
+    }
+
+    public int getInvalidCount() {
+        return this.invalidOffsets.length;
+    }
+
+    public long[] getInvalidOffsets() {
+        return this.invalidOffsets.clone();
+    }
+
+    public boolean isValid() {
+        return this.invalidOffsets.length == 0;
+    }
+
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        putVarint(buffer, this.records);
+        putVarint(buffer, this.invalidOffsets.length);
+        long previous = 0;
+        for (long offset : this.invalidOffsets) {
+            if (buffer.remaining() < MAX_VARINT_BYTES) {
+                drain(buffer, channel);
+            }
+            putVarint(buffer, offset - previous);
+            previous = offset;
+        }
+        drain(buffer, channel);
+    }
+
+    public static ValidationReport readFrom(ReadableByteChannel channel) throws IOException {
+        VarintReader reader = new VarintReader(channel);
+        long records = reader.next();
+        long[] invalidOffsets = new long[Math.toIntExact(reader.next())];
+        long previous = 0;
+        for (int i = 0; i < invalidOffsets.length; i++) {
+            previous += reader.next();
+            invalidOffsets[i] = previous;
+        }
+        return new ValidationReport(records, invalidOffsets);
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d records, %d invalid%s", this.records, this.invalidOffsets.length,
+                this.invalidOffsets.length == 0 ? "" : " at " + Arrays.toString(
+                        Arrays.copyOf(this.invalidOffsets, Math.min(this.invalidOffsets.length, 10)))
+                        + (this.invalidOffsets.length > 10 ? "..." : ""));
+    }
+
+    /**
+     * Reads varints through a buffer, refilling it from the channel as it runs out
+     */
+    private static class VarintReader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+        VarintReader(ReadableByteChannel channel) {
+            this.channel = channel;
+            this.buffer.flip();
+        }
+
+        long next() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+                byte next = this.nextByte();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed validation report");
+        }
+
+        private byte nextByte() throws IOException {
+            while (!this.buffer.hasRemaining()) {
+                this.buffer.clear();
+                int read = this.channel.read(this.buffer);
+                this.buffer.flip();
+                if (read < 0) {
+                    throw new IOException("Validation report ends unexpectedly");
+                }
+            }
+            return this.buffer.get();
+        }
+    }
+}
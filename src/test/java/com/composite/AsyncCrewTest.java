@@ -0,0 +1,143 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncCrewTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+    private static final Duration STALL = Duration.ofSeconds(5);
+
+    private final AsyncQuoting quoting = AsyncQuoting.bounded(4, TIMEOUT);
+    private final Painter roller = new ProportionalPainter("Roller", 3, perHour(20));
+    private final Painter brush = new ProportionalPainter("Brush", 1.5, perHour(15));
+
+    @AfterEach
+    void close() {
+        this.quoting.close();
+    }
+
+    @Test
+    void painterNotAnsweringTheProbeIsLeftOut() throws Exception {
+        AsyncPainter crew = this.quoting.crew(
+                Arrays.asList(this.roller, StallingPainter.onAvailable(this.brush)), new EqualTimeScheduler());
+
+        Quote quote = crew.quote(100).get(2, TimeUnit.SECONDS);
+
+        assertEquals(this.roller.quote(100).toString(), quote.toString());
+    }
+
+    @Test
+    void painterStallingAfterTheProbeFailsTheCrewQuoteInTime() {
+        AsyncPainter crew = this.quoting.crew(
+                Arrays.asList(this.roller, StallingPainter.onEstimates(this.brush)), new EqualTimeScheduler());
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> crew.quote(100).get(2, TimeUnit.SECONDS));
+
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+
+    @Test
+    void singlePainterNotAnsweringIsUnavailableAndCannotQuote() throws Exception {
+        AsyncPainter painter = this.quoting.of(StallingPainter.always(this.brush));
+
+        assertFalse(painter.available().get(2, TimeUnit.SECONDS).asOptional().isPresent());
+        CompletableFuture<Quote> quote = painter.quote(100);
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> quote.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+
+    private static MoneyRate perHour(double amount) {
+        return MoneyRate.hourly(new Money(new BigDecimal(amount)));
+    }
+
+    /**
+     * Stands for a painter whose remote estimator stops answering
+     * The time for the whole job, which the crew asks for while probing, is always answered at once
+     */
+    private static class StallingPainter implements Painter {
+        private final Painter painter;
+        private final boolean stallsOnAvailable;
+        private final boolean stallsOnEstimates;
+
+        private StallingPainter(Painter painter, boolean stallsOnAvailable, boolean stallsOnEstimates) {
+            this.painter = painter;
+            this.stallsOnAvailable = stallsOnAvailable;
+            this.stallsOnEstimates = stallsOnEstimates;
+        }
+
+        static Painter onAvailable(Painter painter) {
+            return new StallingPainter(painter, true, false);
+        }
+
+        static Painter onEstimates(Painter painter) {
+            return new StallingPainter(painter, false, true);
+        }
+
+        static Painter always(Painter painter) {
+            return new StallingPainter(painter, true, true);
+        }
+
+        @Override
+        public OptionalPainter available() {
+            stallIf(this.stallsOnAvailable);
+            return OptionalPainter.of(this);
+        }
+
+        @Override
+        public Duration estimateTimeToPaint(double sqMeters) {
+            return this.painter.estimateTimeToPaint(sqMeters);
+        }
+
+        @Override
+        public Money estimateCompensation(double sqMeters) {
+            stallIf(this.stallsOnEstimates);
+            return this.painter.estimateCompensation(sqMeters);
+        }
+
+        @Override
+        public String getName() {
+            return this.painter.getName();
+        }
+
+        @Override
+        public double estimateSqMeters(Duration time) {
+            stallIf(this.stallsOnEstimates);
+            return this.painter.estimateSqMeters(time);
+        }
+
+        @Override
+        public Optional<Duration> timeForSqMeters(double sqMeters) {
+            stallIf(this.stallsOnEstimates);
+            return this.painter.timeForSqMeters(sqMeters);
+        }
+
+        private static void stallIf(boolean stalls) {
+            if (!stalls) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(STALL.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.Parallelism;
+import com.google.common.cache.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CachingPainterTest {
+
+    @Test
+    void compositeAvailableAsItselfKeepsItsCache() {
+        Painter crew = CompositePainter.of(crew(), new EqualTimeScheduler(), Parallelism.sequential(),
+                EstimateCaching.bySize(100)).asOptional().get();
+
+        for (int round = 0; round < 3; round++) {
+            Painter available = crew.available().asOptional().get();
+            assertSame(crew, available);
+            available.quote(200);
+        }
+
+        CacheStats stats = ((CachingPainter) crew).stats();
+        assertEquals(1, stats.missCount());
+        assertEquals(2, stats.hitCount());
+    }
+
+    @Test
+    void compositeWithAnotherCrewGetsCachesOfItsOwn() {
+        List<Painter> painters = new ArrayList<>(crew());
+        painters.add(new ProportionalPainter("Away", 2, perHour(25)) {
+            @Override
+            public OptionalPainter available() {
+                return OptionalPainter.empty();
+            }
+        });
+        Painter crew = CompositePainter.of(painters, new EqualTimeScheduler(), Parallelism.sequential(),
+                EstimateCaching.bySize(100)).asOptional().get();
+
+        assertNotSame(crew, crew.available().asOptional().get());
+    }
+
+    private static List<Painter> crew() {
+        return Arrays.asList(
+                new ProportionalPainter("Roller", 3, perHour(20)),
+                new ProportionalPainter("Brush", 1.5, perHour(15)));
+    }
+
+    private static MoneyRate perHour(double amount) {
+        return MoneyRate.hourly(new Money(new BigDecimal(amount)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.OptionalPainter;
+import com.domain.logic.with.streams.Painter;
+import com.domain.logic.with.streams.WorkStream;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompositePainterTest {
+
+    /**
+     * One painter of the crew is away, the rest of the crew is still scheduled through a registry
+     */
+    @Test
+    void partialCrewKeepsItsRegistry() {
+        AtomicInteger byRegistry = new AtomicInteger();
+        PaintingScheduler scheduler = new PaintingScheduler() {
+            @Override
+            public WorkStream schedule(List<Painter> painters, double sqMeters) {
+                return new EqualTimeScheduler().schedule(painters, sqMeters);
+            }
+
+            @Override
+            public WorkStream schedule(PainterRegistry registry, double sqMeters) {
+                byRegistry.incrementAndGet();
+                return this.schedule(registry.getPainters(), sqMeters);
+            }
+        };
+        Painter away = new ProportionalPainter("Away", 2, perHour(25)) {
+            @Override
+            public OptionalPainter available() {
+                return OptionalPainter.empty();
+            }
+        };
+        PainterRegistry registry = PainterRegistry.of(Arrays.asList(
+                new ProportionalPainter("Roller", 3, perHour(20)), away, new ProportionalPainter("Brush", 1.5, perHour(15))));
+
+        Painter available = CompositePainter.of(registry, scheduler).available().asOptional().get();
+        available.quote(100);
+
+        assertEquals(1, byRegistry.get());
+        assertEquals("{ Roller, Brush }", available.getName());
+    }
+
+    private static MoneyRate perHour(double amount) {
+        return MoneyRate.hourly(new Money(new BigDecimal(amount)));
+    }
+}
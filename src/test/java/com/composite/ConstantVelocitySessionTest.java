@@ -0,0 +1,63 @@
+package com.composite;
+
+import com.domain.logic.with.streams.Money;
+import com.domain.logic.with.streams.Painter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstantVelocitySessionTest {
+    private final Painter slow = new ProportionalPainter("Slow", 1, perHour(20));
+    private final Painter slower = new ProportionalPainter("Slower", 2, perHour(20));
+    private final Painter fast = new ProportionalPainter("Fast", 1_000_000, perHour(20));
+
+    /**
+     * The fast painter is done within a second, its velocity is infinite
+     */
+    @Test
+    void painterWithInfiniteVelocityLeavesNoTraceBehind() {
+        SchedulingSession session = new ConstantVelocityScheduler().open(Arrays.asList(this.slow, this.slower), 10);
+        session.join(this.fast);
+        session.leave(this.fast);
+
+        assertSameAreas(new ConstantVelocityScheduler().schedule(Arrays.asList(this.slow, this.slower), 10).getStream()
+                .mapToDouble(WorkAssignment::getSqMeters).toArray(), session);
+        assertEquals(10.0 / 3, session.assignmentOf(this.slow).get().getSqMeters(), 1e-9);
+    }
+
+    /**
+     * Painters done within a second share the area evenly, the others get none
+     */
+    @Test
+    void painterWithInfiniteVelocityTakesTheWholeArea() {
+        Painter faster = new ProportionalPainter("Faster", 2_000_000, perHour(20));
+        List<Painter> crew = Arrays.asList(this.slow, this.fast, this.slower, faster);
+        SchedulingSession session = new ConstantVelocityScheduler().open(crew, 10);
+
+        double[] areas = session.schedule().getStream().mapToDouble(WorkAssignment::getSqMeters).toArray();
+        assertArrayEquals(new double[]{0, 5, 0, 5}, areas);
+        assertEquals(10, Arrays.stream(areas).sum());
+        assertSameAreas(new ConstantVelocityScheduler().schedule(crew, 10).getStream()
+                .mapToDouble(WorkAssignment::getSqMeters).toArray(), session);
+        assertEquals(5, session.assignmentOf(this.fast).get().getSqMeters());
+    }
+
+    private static void assertSameAreas(double[] expected, SchedulingSession session) {
+        double[] actual = session.schedule().getStream().mapToDouble(WorkAssignment::getSqMeters).toArray();
+        assertEquals(expected.length, actual.length);
+        for (int index = 0; index < expected.length; index++) {
+            assertTrue(Double.isFinite(actual[index]));
+            assertEquals(expected[index], actual[index], 1e-9);
+        }
+    }
+
+    private static MoneyRate perHour(double amount) {
+        return MoneyRate.hourly(new Money(new BigDecimal(amount)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.composite.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Evaluations the finders need on functions shaped like the area a crew covers, over a range of ten days
+ * Every root must be within the tolerance of the exact time
+ */
+class RootFinderTest {
+    private static final DurationRange TEN_DAYS = DurationRange.zeroTo(Duration.ofDays(10));
+    private static final Convergence MILLISECOND = Convergence.within(Duration.ofMillis(1));
+    private static final Convergence MINUTE = Convergence.within(Duration.ofMinutes(1));
+    private static final double TARGET = 1234.567;
+    private static final double CONCAVE_ROOT = (TARGET / 50) * (TARGET / 50);
+
+    private static final ToDoubleFunction<Duration> LINEAR = time -> 0.01 * seconds(time);
+    private static final ToDoubleFunction<Duration> CONCAVE = time -> 50 * Math.sqrt(seconds(time));
+    private static final ToDoubleFunction<Duration> STEP = time -> 0.01 * Math.floor(seconds(time));
+
+    @Test
+    void bisectionHalvesTheRangeDownToTheTolerance() {
+        assertEquals(30, find(RootFinder.bisection(), LINEAR, 123_456.7, MILLISECOND));
+        assertEquals(30, find(RootFinder.bisection(), CONCAVE, CONCAVE_ROOT, MILLISECOND));
+        assertEquals(30, find(RootFinder.bisection(), STEP, 123_457, MILLISECOND));
+    }
+
+    @Test
+    void interpolatingFindersStopRightAfterHittingALinearFunction() {
+        assertTrue(find(RootFinder.secant(), LINEAR, 123_456.7, MILLISECOND) <= 4);
+        assertTrue(find(RootFinder.illinois(), LINEAR, 123_456.7, MILLISECOND) <= 4);
+        assertTrue(find(RootFinder.brent(), LINEAR, 123_456.7, MILLISECOND) <= 3);
+    }
+
+    @Test
+    void interpolatingFindersNeedFewerEvaluationsOnAConcaveFunction() {
+        assertTrue(find(RootFinder.secant(), CONCAVE, CONCAVE_ROOT, MILLISECOND) <= 15);
+        assertTrue(find(RootFinder.illinois(), CONCAVE, CONCAVE_ROOT, MILLISECOND) <= 15);
+        assertTrue(find(RootFinder.brent(), CONCAVE, CONCAVE_ROOT, MILLISECOND) <= 10);
+    }
+
+    /**
+     * Painters tell their times in whole seconds, the last second is searched for the step reaching the target
+     */
+    @Test
+    void interpolatingFindersNeedFewerEvaluationsOnAStepFunction() {
+        assertTrue(find(RootFinder.secant(), STEP, 123_457, MILLISECOND) <= 20);
+        assertTrue(find(RootFinder.illinois(), STEP, 123_457, MILLISECOND) <= 20);
+        assertTrue(find(RootFinder.brent(), STEP, 123_457, MILLISECOND) <= 20);
+    }
+
+    @Test
+    void interpolatingFindersNeedFewEvaluationsOnRandomLinearFunctions() {
+        for (RootFinder finder : new RootFinder[]{RootFinder.secant(), RootFinder.illinois(), RootFinder.brent()}) {
+            assertTrue(average(finder, MILLISECOND) <= 5, finder.toString());
+            assertTrue(average(finder, MINUTE) <= 5, finder.toString());
+        }
+        assertEquals(30, average(RootFinder.bisection(), MILLISECOND));
+    }
+
+    private static int find(RootFinder finder, ToDoubleFunction<Duration> function, double rootSeconds, Convergence convergence) {
+        DurationRoot root = TEN_DAYS.findRoot(function, TARGET, finder, convergence);
+        assertTrue(root.isConverged(), finder.toString());
+        assertEquals(rootSeconds, seconds(root.getTime()), 1e-3, finder.toString());
+        return root.getIterations();
+    }
+
+    private static double average(RootFinder finder, Convergence convergence) {
+        Random random = new Random(42);
+        long iterations = 0;
+        for (int function = 0; function < 1000; function++) {
+            double slope = 0.001 + random.nextDouble();
+            double target = 1 + random.nextDouble() * 800;
+            DurationRoot root = TEN_DAYS.findRoot(time -> slope * seconds(time), target, finder, convergence);
+            assertEquals(target / slope, seconds(root.getTime()), convergence.toleranceNanos(root.getNanos()) / 1e9);
+            iterations += root.getIterations();
+        }
+        return iterations / 1000.0;
+    }
+
+    private static double seconds(Duration time) {
+        return time.toNanos() / 1e9;
+    }
+}
@@ -0,0 +1,53 @@
+package com.multiway.branching.pipeline;
+
+import com.multiway.branching.Action;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimPipelineTest {
+
+    @Test
+    void appliesEveryAction() {
+        LongAdder applied = new LongAdder();
+        Action action = applied::increment;
+
+        PipelineReport report = ClaimPipeline.<Integer>evaluating(claim -> Optional.of(action))
+                .applyingOn(2)
+                .process(IntStream.range(0, 10_000).boxed());
+
+        assertEquals(10_000, applied.sum());
+        assertEquals(10_000, report.getClaims());
+    }
+
+    /**
+     * The feeding thread is interrupted while claims are still coming
+     */
+    @Test
+    void interruptedFeedingFailsWithItsOwnExceptionAndStopsTheWorkers() {
+        Iterator<Integer> claims = IntStream.range(0, 10_000)
+                .peek(claim -> {
+                    if (claim == 1_000) {
+                        Thread.currentThread().interrupt();
+                    }
+                })
+                .boxed()
+                .iterator();
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> ClaimPipeline.<Integer>evaluating(claim -> Optional.empty()).process(claims));
+
+        assertTrue(failure.getMessage().contains("evaluate"));
+        assertTrue(Thread.interrupted());
+        assertFalse(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("claims-")));
+    }
+}
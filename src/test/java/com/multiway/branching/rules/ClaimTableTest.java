@@ -0,0 +1,77 @@
+package com.multiway.branching.rules;
+
+import com.multiway.branching.ClaimingRule;
+import com.multiway.branching.builders.ClaimingRulesBuilder;
+import com.multiway.branching.builders.PartitioningRulesBuilder;
+import com.multiway.branching.states.DeviceStatus;
+import com.multiway.branching.states.SensorFailedStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimTableTest {
+
+    @Test
+    void tableOfALibraryBuilderIsShared() {
+        assertSame(ClaimTable.of(PartitioningRulesBuilder::new), ClaimTable.of(PartitioningRulesBuilder::new));
+    }
+
+    /**
+     * Two builders of the same class, one of them never claims express
+     */
+    @Test
+    void builderWithStateOfItsOwnGetsItsOwnTable() {
+        ClaimTable claimingExpress = ClaimTable.of(() -> new ConfiguredBuilder(true));
+        ClaimTable notClaimingExpress = ClaimTable.of(() -> new ConfiguredBuilder(false));
+
+        assertTrue(claims(claimingExpress, ClaimTable.Claim.EXPRESS));
+        assertFalse(claims(notClaimingExpress, ClaimTable.Claim.EXPRESS));
+    }
+
+    private static boolean claims(ClaimTable table, ClaimTable.Claim claim) {
+        for (int slot = 0; slot < StatusShapes.SLOTS; slot++) {
+            ClaimTable.Claim[] claims = table.claimsOf(slot);
+            if (claims != null && Arrays.asList(claims).contains(claim)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ConfiguredBuilder implements ClaimingRulesBuilder {
+        private final ClaimingRulesBuilder builder = new PartitioningRulesBuilder();
+        private final boolean claimsExpress;
+
+        ConfiguredBuilder(boolean claimsExpress) {
+            this.claimsExpress = claimsExpress;
+        }
+
+        @Override
+        public ClaimingRulesBuilder onMoneyBack(Consumer<DeviceStatus> action) {
+            this.builder.onMoneyBack(action);
+            return this;
+        }
+
+        @Override
+        public ClaimingRulesBuilder onClaimExpress(Consumer<DeviceStatus> action) {
+            this.builder.onClaimExpress(this.claimsExpress ? action : status -> { });
+            return this;
+        }
+
+        @Override
+        public ClaimingRulesBuilder onClaimExtend(Consumer<SensorFailedStatus> action) {
+            this.builder.onClaimExtend(action);
+            return this;
+        }
+
+        @Override
+        public ClaimingRule build() {
+            return this.builder.build();
+        }
+    }
+}